@@ -0,0 +1,3 @@
+-- 애플리케이션 계정이 복제본의 복제 지연(SHOW REPLICA STATUS)을 확인할 수 있도록 권한 부여 (복제본에도 전파됨)
+GRANT SLAVE MONITOR ON *.* TO 'photoism'@'%';
+FLUSH PRIVILEGES;
@@ -0,0 +1,148 @@
+package com.photoism.photoism_server.common.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 톰캣에 동시 요청을 보내, 요청마다 느린 하위 서비스(블로킹 HTTP 호출)를 기다리는 상황에서
+ * 톰캣 기본 스레드 풀(200개)과 가상 스레드의 처리 시간을 비교합니다.
+ * 하위 서비스는 스레드를 잡지 않고 blockingMillis 뒤에 응답하므로 병목은 톰캣 요청 스레드뿐입니다.
+ *
+ * virtual은 Java 21 이상에서만 동작하므로 build.gradle이 툴체인 버전에 맞춰 executorType 값을 정합니다.
+ * (./gradlew jmh -PjavaVersion=21 이면 둘 다, 기본 17이면 platform만)
+ * 요청 하나가 소켓을 네 개(클라이언트-톰캣, 톰캣-하위 서비스) 쓰므로 ulimit -n이 4096 이상이어야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ConcurrentRequestCapacityBenchmark {
+
+    private static final byte[] BODY = "ok".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    private String executorType;
+
+    @Param({"400", "1000"})
+    private int concurrentRequests;
+
+    @Param({"20"})
+    private long blockingMillis;
+
+    private HttpServer downstream;
+    private ScheduledExecutorService downstreamScheduler;
+    private WebServer webServer;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        boolean virtual = "virtual".equals(executorType);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual 실행기는 Java 21 이상에서만 동작합니다. (./gradlew jmh -PjavaVersion=21)");
+        }
+
+        // 느린 하위 서비스: 요청을 받은 뒤 스레드를 잡지 않고 blockingMillis 뒤에 응답
+        downstreamScheduler = Executors.newScheduledThreadPool(4);
+        downstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        downstream.createContext("/slow", exchange ->
+                downstreamScheduler.schedule(() -> respond(exchange), blockingMillis, TimeUnit.MILLISECONDS));
+        downstream.setExecutor(Executors.newFixedThreadPool(4));
+        downstream.start();
+        URI downstreamUri = URI.create("http://127.0.0.1:" + downstream.getAddress().getPort() + "/slow");
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        factory.addConnectorCustomizers(connector -> connector.setProperty("acceptCount", "4096"));
+        if (virtual) {
+            // spring.threads.virtual.enabled=true 와 같은 구성: 요청마다 가상 스레드
+            factory.addProtocolHandlerCustomizers(handler ->
+                    handler.setExecutor(new VirtualThreadTaskExecutor("bench-tomcat-")));
+        }
+        HttpClient downstreamClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        webServer = factory.getWebServer(context -> context
+                .addServlet("blocking", new BlockingServlet(downstreamClient, downstreamUri))
+                .addMapping("/blocking"));
+        webServer.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + webServer.getPort() + "/blocking")).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        webServer.stop();
+        downstream.stop(0);
+        downstreamScheduler.shutdownNow();
+    }
+
+    // 동시 요청 concurrentRequests개가 모두 응답받기까지 걸린 시간
+    @Benchmark
+    public int serveBurst() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrentRequests];
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("응답 코드 " + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        return concurrentRequests;
+    }
+
+    private static void respond(HttpExchange exchange) {
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(200, BODY.length);
+            out.write(BODY);
+        } catch (IOException e) {
+            exchange.close();
+        }
+    }
+
+    // 요청 스레드에서 하위 서비스를 동기 호출 (JDBC, RestTemplate 호출처럼 응답까지 스레드가 묶임)
+    private static final class BlockingServlet extends HttpServlet {
+
+        private final transient HttpClient downstreamClient;
+        private final transient HttpRequest downstreamRequest;
+
+        private BlockingServlet(HttpClient downstreamClient, URI downstreamUri) {
+            this.downstreamClient = downstreamClient;
+            this.downstreamRequest = HttpRequest.newBuilder(downstreamUri).build();
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            try {
+                downstreamClient.send(downstreamRequest, HttpResponse.BodyHandlers.discarding());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                resp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            resp.setContentType("text/plain");
+            resp.getOutputStream().write(BODY);
+        }
+    }
+}
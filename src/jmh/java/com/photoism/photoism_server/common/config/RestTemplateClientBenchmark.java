@@ -0,0 +1,69 @@
+package com.photoism.photoism_server.common.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 스텁 서버를 대상으로 외부 호출 방식별 처리량을 비교합니다.
+ * simple: JDK 기본 SimpleClientHttpRequestFactory (기존 설정)
+ * pooled: 연결 풀 + keep-alive (http-client 기본 설정)
+ * http2: JDK HttpClient (스텁 서버는 HTTP/1.1만 지원하므로 연결 재사용 효과만 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class RestTemplateClientBenchmark {
+
+    private static final byte[] BODY = "{\"result\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"simple", "pooled", "http2"})
+    private String client;
+
+    private HttpServer server;
+    private RestTemplate restTemplate;
+    private String url;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.createContext("/stub", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(32));
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/stub";
+
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxPerHost(16);
+        properties.setPreferHttp2("http2".equals(client));
+        restTemplate = switch (client) {
+            case "simple" -> new RestTemplate(new SimpleClientHttpRequestFactory());
+            default -> new RestTemplateClient(properties).restTemplate(new RestTemplateBuilder());
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public String call() {
+        return restTemplate.getForObject(url, String.class);
+    }
+}
@@ -0,0 +1,36 @@
+package com.photoism.photoism_server.common.exception;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.core.AuthenticationException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 401 응답(ErrorResponse 직렬화 포함)을 작성하는 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CustomAuthenticationEntryPointBenchmark {
+
+    private CustomAuthenticationEntryPoint entryPoint;
+    private MockHttpServletRequest request;
+    private AuthenticationException exception;
+
+    @Setup
+    public void setUp() {
+        entryPoint = new CustomAuthenticationEntryPoint();
+        request = new MockHttpServletRequest("GET", "/photobooks");
+        exception = new InsufficientAuthenticationException("Full authentication is required");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse commence() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        entryPoint.commence(request, response, exception);
+        return response;
+    }
+}
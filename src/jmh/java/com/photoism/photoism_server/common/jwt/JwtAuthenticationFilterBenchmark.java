@@ -0,0 +1,123 @@
+package com.photoism.photoism_server.common.jwt;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 JwtAuthenticationFilter(헤더 전체 로깅, 매 요청 URL 디코딩, 매 요청 서명 검증)와
+ * 현재 필터의 처리량을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private GenericFilter legacyFilter;
+    private GenericFilter currentFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        Jwt jwt = new Jwt("benchmark-secret-benchmark-secret-benchmark-secret", "photoism", 3600, 1209600);
+        legacyFilter = new LegacyJwtAuthenticationFilter(jwt);
+        currentFilter = new JwtAuthenticationFilter(jwt, new VerifiedTokenCache(10_000), AuthRequestTracer.disabled());
+
+        request = new MockHttpServletRequest("GET", "/photobooks");
+        request.addHeader("Authorization", "Bearer " + jwt.generateAccessToken(Jwt.Claims.from(1L)));
+        request.addHeader("User-Agent", "photoism-kiosk/1.0");
+        request.addHeader("Accept", "application/json");
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object legacyFilter() throws Exception {
+        legacyFilter.doFilter(request, response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object currentFilter() throws Exception {
+        currentFilter.doFilter(request, response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    // 개선 전 필터의 동작을 그대로 옮겨 둔 비교용 구현입니다.
+    @Slf4j
+    static class LegacyJwtAuthenticationFilter extends GenericFilter {
+
+        private final Jwt jwt;
+
+        LegacyJwtAuthenticationFilter(Jwt jwt) {
+            this.jwt = jwt;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                log.info("getAuthentication is null");
+                String token = getAccessToken(httpServletRequest);
+                log.info("토큰 : " + token);
+                if (token != null) {
+                    try {
+                        Long memberId = jwt.verify(token).getMemberId();
+                        log.info("memberId : " + memberId);
+                        if (memberId != null) {
+                            UsernamePasswordAuthenticationToken authentication =
+                                    new UsernamePasswordAuthenticationToken(memberId, null);
+                            log.info("authentication : " + authentication.toString());
+                            SecurityContextHolder.getContext().setAuthentication(authentication);
+                        }
+                    } catch (Exception e) {
+                        log.warn("Jwt 처리중 문제가 발생하였습니다 : {}", e.getMessage());
+                    }
+                }
+            }
+            chain.doFilter(request, response);
+        }
+
+        private String getAccessToken(HttpServletRequest request) {
+            log.warn("리퀘스트 로그 시작");
+            log.warn("Method: " + request.getMethod());
+            log.warn("Request URI: " + request.getRequestURI());
+            log.warn("Query String: " + request.getQueryString());
+            log.warn("Headers:");
+            Enumeration<String> headerNames = request.getHeaderNames();
+            while (headerNames.hasMoreElements()) {
+                String headerName = headerNames.nextElement();
+                log.info("헤더: " + headerName + " 값: " + request.getHeader(headerName));
+            }
+
+            String authorizationHeader = request.getHeader("Authorization");
+            log.info("Raw Authorization Header : " + authorizationHeader);
+            if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+                String decodedToken = URLDecoder.decode(authorizationHeader.substring(7), StandardCharsets.UTF_8);
+                log.info("Decoded accessToken : " + decodedToken);
+                return decodedToken;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.photoism.photoism_server.common.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급(서명)과 검증 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtBenchmark {
+
+    private Jwt jwt;
+    private Jwt.Claims claims;
+    private String accessToken;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Setup
+    public void setUp() {
+        jwt = new Jwt("benchmark-secret-benchmark-secret-benchmark-secret", "photoism", 3600, 1209600);
+        claims = Jwt.Claims.from(1L);
+        accessToken = jwt.generateAccessToken(claims);
+        verifiedTokenCache = new VerifiedTokenCache(10_000);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwt.generateAccessToken(claims);
+    }
+
+    @Benchmark
+    public Jwt.Claims verify() {
+        return jwt.verify(accessToken);
+    }
+
+    @Benchmark
+    public Jwt.Claims verifyCached() {
+        return verifiedTokenCache.verify(accessToken, jwt::verify);
+    }
+}
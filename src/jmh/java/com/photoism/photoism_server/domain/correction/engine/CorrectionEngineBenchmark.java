@@ -0,0 +1,94 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+import com.photoism.photoism_server.domain.correction.domain.enums.Skin;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보정 엔진 처리량을 측정합니다.
+ * 한 번의 호출이 4메가픽셀(2000x2000) 한 장이므로 기본 점수는 초당 메가픽셀(ops/s = Mpx/s)이고,
+ * 보조 카운터 kilopixelsPerCore는 코어 하나당 초당 킬로픽셀입니다. (parallelism 0 = CPU 코어 수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CorrectionEngineBenchmark {
+
+    private static final int WIDTH = 2000;
+    private static final int HEIGHT = 2000;
+    private static final int MEGAPIXELS = WIDTH * HEIGHT / 1_000_000;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    @Param({"color", "shape", "full"})
+    private String preset;
+
+    private ForkJoinPool pool;
+    private CorrectionEngine engine;
+    private CorrectionPreset correctionPreset;
+    private int cores;
+    private int[] src;
+    private int[] dst;
+
+    @Setup
+    public void setUp() {
+        cores = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(cores);
+        engine = new CorrectionEngine(pool, PresetTables.build(WarpMesh.DEFAULT_CELLS));
+        correctionPreset = switch (preset) {
+            case "color" -> new CorrectionPreset(Skin.PINK, null, 0, 0, 0, 0, 0, 0);
+            case "shape" -> new CorrectionPreset(Skin.PINK, Shape.SLIM, 0, 0, 0, 0, 0, 0);
+            default -> new CorrectionPreset(Skin.PINK, Shape.SLIM, 3, 2, 2, 1, 1, 1);
+        };
+        src = syntheticPortrait();
+        dst = new int[WIDTH * HEIGHT];
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MEGAPIXELS)
+    public int[] apply(PerCoreCounters counters) {
+        engine.apply(src, dst, WIDTH, HEIGHT, correctionPreset);
+        counters.kilopixelsPerCore += WIDTH * HEIGHT / 1000 / cores;
+        return dst;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PerCoreCounters {
+        public long kilopixelsPerCore;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            kilopixelsPerCore = 0;
+        }
+    }
+
+    // 가운데는 피부색, 바깥은 배경색인 그라디언트 (LUT 가중치 분기가 실제 사진처럼 섞이도록)
+    private static int[] syntheticPortrait() {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                double dx = (x - WIDTH / 2.0) / WIDTH;
+                double dy = (y - HEIGHT * 0.45) / HEIGHT;
+                boolean face = dx * dx / 0.05 + dy * dy / 0.09 < 1;
+                int r = face ? 224 - (y & 15) : 60 + (x * 120 / WIDTH);
+                int g = face ? 172 - (x & 15) : 90 + (y * 100 / HEIGHT);
+                int b = face ? 150 - ((x + y) & 15) : 160;
+                pixels[y * WIDTH + x] = r << 16 | g << 8 | b;
+            }
+        }
+        return pixels;
+    }
+}
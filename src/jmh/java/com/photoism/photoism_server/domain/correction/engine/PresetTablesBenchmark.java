@@ -0,0 +1,47 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+import com.photoism.photoism_server.domain.correction.domain.enums.Skin;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프리셋 적용 준비 비용: 요청마다 톤 곡선/메시를 계산하는 경우와 미리 계산된 PresetTables에서 꺼내는 경우를 비교합니다.
+ * (-prof gc 로 요청당 할당량도 함께 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PresetTablesBenchmark {
+
+    @Param({"PINK"})
+    private Skin skin;
+
+    @Param({"SLIM"})
+    private Shape shape;
+
+    private PresetTables tables;
+
+    @Setup
+    public void setUp() {
+        tables = PresetTables.build(WarpMesh.DEFAULT_CELLS);
+    }
+
+    @Benchmark
+    public Object computePerRequest() {
+        SkinToneLut lut = SkinToneLut.of(skin);
+        WarpMesh mesh = CorrectionWarps.forShape(shape, WarpMesh.DEFAULT_CELLS);
+        return mesh.isIdentity() ? lut : mesh;
+    }
+
+    @Benchmark
+    public Object precomputed() {
+        SkinToneLut lut = tables.lut(skin);
+        WarpMesh mesh = tables.mesh(shape);
+        return mesh.isIdentity() ? lut : mesh;
+    }
+}
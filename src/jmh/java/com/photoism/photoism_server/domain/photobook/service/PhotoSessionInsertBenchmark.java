@@ -0,0 +1,208 @@
+package com.photoism.photoism_server.domain.photobook.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 1,000개(세션당 사진 6장 + 보정 1건) 백필의 초당 INSERT 행 수를 비교합니다.
+ * identity: 행마다 INSERT 후 생성 키를 받음 (IDENTITY 전략, Hibernate 배치 불가)
+ * batched: 미리 할당한 ID로 batch_size마다 executeBatch (테이블 ID 생성기 + hibernate.jdbc.batch_size)
+ *   ID는 Hibernate TableGenerator처럼 두 번째 연결의 별도 트랜잭션에서 ID 테이블 행을 잠그고 50개씩 받아 오므로,
+ *   그 왕복과 커밋 비용도 측정에 포함됩니다.
+ *
+ * 실제 DB 왕복 비용을 보려면 -Dbench.db.url=jdbc:mysql://... -Dbench.db.user=... -Dbench.db.password=... 로 실행합니다.
+ * 기본값은 인메모리 H2(MySQL 모드)라 네트워크 왕복이 없고, rewriteBatchedStatements는 MySQL/MariaDB에서만 적용됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PhotoSessionInsertBenchmark {
+
+    private static final int SESSIONS = 1_000;
+    private static final int PHOTOS_PER_SESSION = 6;
+    private static final int ROWS = SESSIONS * (PHOTOS_PER_SESSION + 1);
+    private static final int BATCH_SIZE = 50;
+    private static final int ALLOCATION_SIZE = 50; // TableIdGenerators.ALLOCATION_SIZE
+
+    @Param({"true", "false"})
+    private boolean rewriteBatchedStatements;
+
+    private Connection connection;
+    private Connection idConnection; // ID 할당 전용 (Hibernate가 할당할 때 쓰는 별도 연결)
+    private IdAllocator photoIds;
+    private IdAllocator correctionIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.db.url", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        Properties props = new Properties();
+        props.setProperty("user", System.getProperty("bench.db.user", "sa"));
+        props.setProperty("password", System.getProperty("bench.db.password", ""));
+        if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+            props.setProperty("rewriteBatchedStatements", String.valueOf(rewriteBatchedStatements));
+            props.setProperty("useBulkStmts", String.valueOf(rewriteBatchedStatements));
+        }
+        connection = DriverManager.getConnection(url, props);
+        idConnection = DriverManager.getConnection(url, props);
+        idConnection.setAutoCommit(false);
+        try (Statement st = connection.createStatement()) {
+            st.execute("drop table if exists bench_photo_book");
+            st.execute("drop table if exists bench_correction");
+            st.execute("drop table if exists bench_sequences");
+            st.execute("create table bench_sequences (sequence_name varchar(255) primary key, next_val bigint)");
+            st.execute("create table bench_photo_book (id bigint auto_increment primary key, "
+                    + "photo_url varchar(255), content_hash varchar(64), user_id bigint)");
+            st.execute("create table bench_correction (id bigint auto_increment primary key, "
+                    + "shape tinyint, skin tinyint, eye_size bigint, user_id bigint)");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("truncate table bench_photo_book");
+            st.execute("truncate table bench_correction");
+            st.execute("delete from bench_sequences");
+            st.execute("insert into bench_sequences values ('photo_book', 1), ('correction', 1)");
+        }
+        photoIds = new IdAllocator("photo_book");
+        correctionIds = new IdAllocator("correction");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("drop table if exists bench_photo_book");
+            st.execute("drop table if exists bench_correction");
+            st.execute("drop table if exists bench_sequences");
+        }
+        idConnection.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identity() throws SQLException {
+        long last = 0;
+        try (PreparedStatement photo = connection.prepareStatement(
+                "insert into bench_photo_book (photo_url, content_hash, user_id) values (?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement correction = connection.prepareStatement(
+                     "insert into bench_correction (shape, skin, eye_size, user_id) values (?, ?, ?, ?)",
+                     Statement.RETURN_GENERATED_KEYS)) {
+            for (int s = 0; s < SESSIONS; s++) {
+                connection.setAutoCommit(false);
+                for (int p = 0; p < PHOTOS_PER_SESSION; p++) {
+                    bindPhoto(photo, 1, s, p);
+                    photo.executeUpdate();
+                    last = generatedKey(photo);
+                }
+                bindCorrection(correction, 1, s);
+                correction.executeUpdate();
+                last = generatedKey(correction);
+                connection.commit();
+            }
+        }
+        connection.setAutoCommit(true);
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long batched() throws SQLException {
+        int pendingPhotos = 0;
+        int pendingCorrections = 0;
+        try (PreparedStatement photo = connection.prepareStatement(
+                "insert into bench_photo_book (id, photo_url, content_hash, user_id) values (?, ?, ?, ?)");
+             PreparedStatement correction = connection.prepareStatement(
+                     "insert into bench_correction (id, shape, skin, eye_size, user_id) values (?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            // 백필은 여러 세션을 한 트랜잭션에 모아 batch_size 단위로 전송 (order_inserts로 테이블별로 묶임)
+            for (int s = 0; s < SESSIONS; s++) {
+                for (int p = 0; p < PHOTOS_PER_SESSION; p++) {
+                    photo.setLong(1, photoIds.next(idConnection));
+                    bindPhoto(photo, 2, s, p);
+                    photo.addBatch();
+                    if (++pendingPhotos == BATCH_SIZE) {
+                        photo.executeBatch();
+                        pendingPhotos = 0;
+                    }
+                }
+                correction.setLong(1, correctionIds.next(idConnection));
+                bindCorrection(correction, 2, s);
+                correction.addBatch();
+                if (++pendingCorrections == BATCH_SIZE) {
+                    correction.executeBatch();
+                    pendingCorrections = 0;
+                }
+            }
+            photo.executeBatch();
+            correction.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+        return photoIds.next + correctionIds.next;
+    }
+
+    private static void bindPhoto(PreparedStatement ps, int index, int session, int photo) throws SQLException {
+        ps.setString(index, "/files/session-" + session + "-" + photo);
+        ps.setString(index + 1, null);
+        ps.setLong(index + 2, session);
+    }
+
+    private static void bindCorrection(PreparedStatement ps, int index, int session) throws SQLException {
+        ps.setInt(index, 0); // enum ordinal
+        ps.setInt(index + 1, 0);
+        ps.setLong(index + 2, 0);
+        ps.setLong(index + 3, session);
+    }
+
+    /**
+     * pooled 테이블 ID 생성기와 같은 방식: 블록을 다 쓰면 ID 행을 잠그고 ALLOCATION_SIZE만큼 올린 뒤 커밋
+     */
+    private static final class IdAllocator {
+        private final String name;
+        private long next;
+        private long limit;
+
+        IdAllocator(String name) {
+            this.name = name;
+        }
+
+        long next(Connection idConnection) throws SQLException {
+            if (next == limit) {
+                try (PreparedStatement select = idConnection.prepareStatement(
+                        "select next_val from bench_sequences where sequence_name = ? for update");
+                     PreparedStatement update = idConnection.prepareStatement(
+                             "update bench_sequences set next_val = ? where sequence_name = ? and next_val = ?")) {
+                    select.setString(1, name);
+                    long value;
+                    try (ResultSet rs = select.executeQuery()) {
+                        rs.next();
+                        value = rs.getLong(1);
+                    }
+                    update.setLong(1, value + ALLOCATION_SIZE);
+                    update.setString(2, name);
+                    update.setLong(3, value);
+                    update.executeUpdate();
+                    idConnection.commit();
+                    next = value;
+                    limit = value + ALLOCATION_SIZE;
+                }
+            }
+            return next++;
+        }
+    }
+
+    private static long generatedKey(PreparedStatement ps) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            return keys.next() ? keys.getLong(1) : 0;
+        }
+    }
+}
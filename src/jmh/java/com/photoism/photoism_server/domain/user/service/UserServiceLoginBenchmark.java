@@ -0,0 +1,69 @@
+package com.photoism.photoism_server.domain.user.service;
+
+import com.photoism.photoism_server.common.crypto.PasswordHashingProperties;
+import com.photoism.photoism_server.common.crypto.PasswordHashingService;
+import com.photoism.photoism_server.common.jwt.Jwt;
+import com.photoism.photoism_server.domain.user.domain.entity.User;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import com.photoism.photoism_server.domain.user.domain.token.InMemoryRefreshTokenStore;
+import com.photoism.photoism_server.domain.user.presentation.dto.response.LoginResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * 로그인(BCrypt 비밀번호 확인 + 토큰 발급) 비용을 측정합니다.
+ * DB 대신 고정된 사용자를 돌려주는 UserRepository 스텁을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserServiceLoginBenchmark {
+
+    private static final String EMAIL = "booth@photoism.com";
+    private static final String PASSWORD = "benchmark-password";
+
+    // 저장된 해시와 같은 강도로 맞춰 재해시가 일어나지 않게 합니다.
+    @Param({"10", "12"})
+    private int strength;
+
+    private UserService userService;
+    private InMemoryRefreshTokenStore refreshTokenStore;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .username("booth")
+                .email(EMAIL)
+                .password("{bcrypt}" + new BCryptPasswordEncoder(strength).encode(PASSWORD))
+                .build();
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+
+        Jwt jwt = new Jwt("benchmark-secret-benchmark-secret-benchmark-secret", "photoism", 3600, 1209600);
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(strength);
+        PasswordHashingService passwordHashingService = new PasswordHashingService(properties, new SimpleMeterRegistry());
+        refreshTokenStore = new InMemoryRefreshTokenStore();
+        RefreshTokenService refreshTokenService = new RefreshTokenService(refreshTokenStore, userRepository, jwt);
+        userService = new UserService(userRepository, passwordHashingService, refreshTokenService);
+    }
+
+    @TearDown
+    public void tearDown() {
+        refreshTokenStore.shutdown();
+    }
+
+    @Benchmark
+    public LoginResponse login() {
+        return userService.login(EMAIL, PASSWORD);
+    }
+}
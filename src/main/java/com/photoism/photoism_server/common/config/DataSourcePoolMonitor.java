@@ -0,0 +1,74 @@
+package com.photoism.photoism_server.common.config;
+
+import com.photoism.photoism_server.common.datasource.ReadWriteRoutingDataSource;
+import com.photoism.photoism_server.common.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 커넥션 풀 포화 상태를 로그로 남깁니다.
+ * 대기 시간·활성/유휴 연결 수·획득 타임아웃은 actuator의 hikaricp.* 메트릭으로 수집되고,
+ * 이 컴포넌트는 로그인 몰림처럼 풀에서 연결을 기다리는 스레드가 생기는 순간을 로그에서 바로 찾을 수 있게 합니다.
+ */
+@Slf4j
+@Component
+public class DataSourcePoolMonitor {
+
+    private final List<HikariDataSource> dataSources;
+    private final int tomcatMaxThreads;
+    private final boolean virtualThreads;
+    private final Map<String, Integer> lastWaiting = new ConcurrentHashMap<>();
+
+    public DataSourcePoolMonitor(ObjectProvider<HikariDataSource> dataSources,
+                                 ObjectProvider<ReadWriteRoutingDataSource> routingDataSource,
+                                 @Value("${server.tomcat.threads.max:200}") int tomcatMaxThreads,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        // 복제본 풀은 빈으로 등록되지 않으므로 라우팅 데이터소스에서 꺼냄
+        Stream<HikariDataSource> replicas = routingDataSource.stream()
+                .flatMap(routing -> routing.getReplicas().stream())
+                .map(ReplicaDataSource::getDataSource);
+        this.dataSources = Stream.concat(dataSources.orderedStream(), replicas).toList();
+        this.tomcatMaxThreads = tomcatMaxThreads;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logSizing() {
+        for (HikariDataSource dataSource : dataSources) {
+            log.info("커넥션 풀 {}: 최대 {}개, 획득 대기 {}ms (요청 스레드: {})",
+                    dataSource.getPoolName(), dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout(),
+                    virtualThreads ? "가상 스레드" : tomcatMaxThreads + "개");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-pool-monitor.interval-ms:5000}")
+    public void check() {
+        for (HikariDataSource dataSource : dataSources) {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                continue; // 아직 첫 연결 전
+            }
+            int waiting = pool.getThreadsAwaitingConnection();
+            Integer previous = lastWaiting.put(dataSource.getPoolName(), waiting);
+            if (waiting > 0) {
+                log.warn("커넥션 풀 {} 포화: 대기 {}개, 활성 {}개, 유휴 {}개 / 최대 {}개",
+                        dataSource.getPoolName(), waiting, pool.getActiveConnections(), pool.getIdleConnections(),
+                        dataSource.getMaximumPoolSize());
+            } else if (previous != null && previous > 0) {
+                log.info("커넥션 풀 {} 대기 해소", dataSource.getPoolName());
+            }
+        }
+    }
+}
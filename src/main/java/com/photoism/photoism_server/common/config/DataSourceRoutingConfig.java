@@ -0,0 +1,109 @@
+package com.photoism.photoism_server.common.config;
+
+import com.photoism.photoism_server.common.datasource.DataSourceRoutingProperties;
+import com.photoism.photoism_server.common.datasource.ReadWriteRoutingDataSource;
+import com.photoism.photoism_server.common.datasource.ReplicaDataSource;
+import com.photoism.photoism_server.common.datasource.ReplicaReadJpaDialect;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * datasource-routing.enabled=true 일 때 쓰기는 primary(spring.datasource), 읽기 전용 트랜잭션은 복제본으로 보냅니다.
+ * 복제본 풀은 primary의 Hikari 설정(spring.datasource.hikari)을 복사해 URL과 계정만 바꿔 만듭니다.
+ * 복제본에서 읽은 엔티티가 2차 캐시에 들어가지 않도록 JPA dialect도 ReplicaReadJpaDialect로 바꿉니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                        DataSourceRoutingProperties properties,
+                                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        List<ReplicaDataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            if (!StringUtils.hasText(replica.getUrl())) {
+                continue;
+            }
+            String name = primaryDataSource.getPoolName().replace("primary", "replica") + "-" + replicas.size();
+            replicas.add(new ReplicaDataSource(name, replicaPool(primaryDataSource, replica, name, meterRegistry)));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 스프링 부트 기본 어댑터와 같은 설정에 dialect만 교체
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties properties) {
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            private final HibernateJpaDialect dialect = new ReplicaReadJpaDialect();
+
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return dialect;
+            }
+        };
+        adapter.setShowSql(properties.isShowSql());
+        if (properties.getDatabase() != null) {
+            adapter.setDatabase(properties.getDatabase());
+        }
+        if (properties.getDatabasePlatform() != null) {
+            adapter.setDatabasePlatform(properties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(properties.isGenerateDdl());
+        return adapter;
+    }
+
+    private static HikariDataSource replicaPool(HikariDataSource primary, DataSourceRoutingProperties.Replica replica,
+                                                String name, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(name);
+        config.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            config.setUsername(replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            config.setPassword(replica.getPassword());
+        }
+        if (replica.getMaximumPoolSize() != null) {
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+            config.setMinimumIdle(Math.min(config.getMinimumIdle(), replica.getMaximumPoolSize()));
+        }
+        config.setReadOnly(true);
+        config.setMetricRegistry(null);
+        config.setMetricsTrackerFactory(null);
+        meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return new HikariDataSource(config);
+    }
+}
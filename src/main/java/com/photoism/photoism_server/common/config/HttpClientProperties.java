@@ -0,0 +1,26 @@
+package com.photoism.photoism_server.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(5); // 응답(소켓) 대기 시간
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1); // 풀에서 연결을 얻기까지 기다리는 시간
+    private Duration connectionTimeToLive = Duration.ofMinutes(5); // keep-alive 연결의 최대 재사용 시간
+    private Duration idleEvictAfter = Duration.ofSeconds(30); // 이 시간 동안 쓰이지 않은 연결은 정리
+    private int maxTotal = 100; // 전체 연결 수
+    private int maxPerHost = 20; // 호스트(라우트)별 동시 연결 수
+    private Map<String, Integer> hostLimits = new LinkedHashMap<>(); // 호스트별 동시 연결 수 (예: https://api.coolsms.co.kr: 10)
+    private boolean preferHttp2 = false; // true면 HTTP/2를 지원하는 JDK HttpClient를 사용
+}
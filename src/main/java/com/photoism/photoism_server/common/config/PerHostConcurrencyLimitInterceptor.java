@@ -0,0 +1,57 @@
+package com.photoism.photoism_server.common.config;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트별 동시 요청 수를 제한하는 인터셉터입니다.
+ * 연결 풀이 라우트별 제한을 해 주지 않는 HTTP/2(JDK HttpClient) 모드에서 사용합니다.
+ * 응답 본문은 RestTemplate이 응답을 다 읽은 뒤에 닫히므로, 요청 실행이 끝나는 시점에 허가를 반환합니다.
+ */
+public class PerHostConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final int defaultLimit;
+    private final Map<String, Integer> hostLimits;
+    private final Duration acquireTimeout;
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    public PerHostConcurrencyLimitInterceptor(int defaultLimit, Map<String, Integer> hostLimits, Duration acquireTimeout) {
+        this.defaultLimit = defaultLimit;
+        this.hostLimits = hostLimits;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        URI uri = request.getURI();
+        String origin = uri.getScheme() + "://" + uri.getHost() + (uri.getPort() > 0 ? ":" + uri.getPort() : "");
+        Semaphore semaphore = semaphores.computeIfAbsent(origin,
+                key -> new Semaphore(hostLimits.getOrDefault(key, defaultLimit)));
+
+        try {
+            if (!semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IOException("동시 요청 한도를 초과했습니다: " + origin);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("동시 요청 대기 중 인터럽트되었습니다: " + origin, e);
+        }
+
+        try {
+            return execution.execute(request, body);
+        } finally {
+            semaphore.release();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.photoism.photoism_server.common.config;
+
+import com.photoism.photoism_server.common.job.MaintenanceJobProperties;
+import com.photoism.photoism_server.domain.image.job.BlobGarbageCollectionJob;
+import com.photoism.photoism_server.domain.image.job.OrphanImageCleanupJob;
+import com.photoism.photoism_server.domain.photobook.job.PhotoBookThumbnailBackfillJob;
+import com.photoism.photoism_server.domain.user.job.RefreshTokenPurgeJob;
+import lombok.RequiredArgsConstructor;
+import org.quartz.*;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 백그라운드 유지보수 작업(Quartz)을 등록합니다.
+ * JDBC 잡 스토어를 클러스터 모드로 사용하므로 여러 노드가 떠 있어도 각 트리거는 한 노드에서만 실행됩니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class QuartzJobConfig {
+
+    private final MaintenanceJobProperties properties;
+
+    @Bean
+    public JobDetail refreshTokenPurgeJobDetail() {
+        return durableJob(RefreshTokenPurgeJob.class, "refreshTokenPurge");
+    }
+
+    @Bean
+    public Trigger refreshTokenPurgeTrigger() {
+        return cronTrigger(refreshTokenPurgeJobDetail(), properties.getRefreshTokenPurgeCron());
+    }
+
+    @Bean
+    public JobDetail orphanImageCleanupJobDetail() {
+        return durableJob(OrphanImageCleanupJob.class, "orphanImageCleanup");
+    }
+
+    @Bean
+    public Trigger orphanImageCleanupTrigger() {
+        return cronTrigger(orphanImageCleanupJobDetail(), properties.getOrphanImageCleanupCron());
+    }
+
+    @Bean
+    public JobDetail blobGarbageCollectionJobDetail() {
+        return durableJob(BlobGarbageCollectionJob.class, "blobGarbageCollection");
+    }
+
+    @Bean
+    public Trigger blobGarbageCollectionTrigger() {
+        return cronTrigger(blobGarbageCollectionJobDetail(), properties.getBlobGcCron());
+    }
+
+    @Bean
+    public JobDetail photoBookThumbnailBackfillJobDetail() {
+        return durableJob(PhotoBookThumbnailBackfillJob.class, "photoBookThumbnailBackfill");
+    }
+
+    @Bean
+    public Trigger photoBookThumbnailBackfillTrigger() {
+        return cronTrigger(photoBookThumbnailBackfillJobDetail(), properties.getThumbnailBackfillCron());
+    }
+
+    private static JobDetail durableJob(Class<? extends Job> jobClass, String name) {
+        return JobBuilder.newJob(jobClass)
+                .withIdentity(name, "maintenance")
+                .storeDurably()
+                .requestRecovery() // 실행 중 노드가 죽으면 다른 노드에서 다시 실행
+                .build();
+    }
+
+    private static Trigger cronTrigger(JobDetail jobDetail, String cron) {
+        return TriggerBuilder.newTrigger()
+                .forJob(jobDetail)
+                .withIdentity(jobDetail.getKey().getName() + "Trigger", "maintenance")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cron)
+                        .withMisfireHandlingInstructionDoNothing()) // 놓친 실행은 다음 주기에 처리
+                .build();
+    }
+}
@@ -1,16 +1,105 @@
 package com.photoism.photoism_server.common.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.routing.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateClient {
+
+    private final HttpClientProperties properties;
+
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
         // RestTemplateBuilder를 사용하여 RestTemplate 객체를 생성하고 반환
-        // RestTemplateBuilder는 RestTemplate의 설정을 쉽게 구성할 수 있도록 도와줌
-        return builder.build();
+        // 외부 API(SMS, OAuth2, 이미지 AI)가 느려도 요청 스레드가 무한정 묶이지 않도록 타임아웃과 연결 풀을 설정
+        if (properties.isPreferHttp2()) {
+            return builder
+                    .requestFactory(this::http2RequestFactory)
+                    .additionalInterceptors(new PerHostConcurrencyLimitInterceptor(
+                            properties.getMaxPerHost(),
+                            properties.getHostLimits(),
+                            properties.getConnectionRequestTimeout()))
+                    .build();
+        }
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(pooledHttpClient()))
+                .build();
+    }
+
+    // 라우트(호스트)별로 연결을 재사용하는 연결 풀
+    @Bean
+    public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerHost())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(properties.getConnectionTimeToLive()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        // 호스트별 동시 연결 수 제한
+        properties.getHostLimits().forEach((origin, limit) ->
+                connectionManager.setMaxPerRoute(toRoute(origin), limit));
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient pooledHttpClient() {
+        return HttpClients.custom()
+                .setConnectionManager(httpClientConnectionManager())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleEvictAfter()))
+                .build();
+    }
+
+    // 연결 풀 사용량(leased, available, pending, max)을 outbound 이름으로 노출
+    @Bean
+    public MeterBinder httpClientConnectionPoolMetrics() {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(httpClientConnectionManager(), "outbound");
+    }
+
+    private JdkClientHttpRequestFactory http2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2) // 서버가 지원하지 않으면 HTTP/1.1로 협상
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        return requestFactory;
+    }
+
+    private static HttpRoute toRoute(String origin) {
+        URI uri = URI.create(origin);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
     }
 }
@@ -0,0 +1,9 @@
+package com.photoism.photoism_server.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling  // @Scheduled 메서드 실행 (문자 발송 등 주기 작업)
+public class SchedulingConfig {
+}
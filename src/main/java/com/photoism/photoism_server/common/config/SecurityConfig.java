@@ -4,9 +4,14 @@ package com.photoism.photoism_server.common.config;
 
 import com.photoism.photoism_server.common.exception.CustomAccessDeniedHandler;
 import com.photoism.photoism_server.common.exception.CustomAuthenticationEntryPoint;
+import com.photoism.photoism_server.common.filter.CustomAuthenticationFilter;
+import com.photoism.photoism_server.common.filter.OpaqueTokenProperties;
+import com.photoism.photoism_server.common.filter.OpaqueTokenSessionIndex;
+import com.photoism.photoism_server.common.jwt.AuthRequestTracer;
 import com.photoism.photoism_server.common.jwt.Jwt;
 import com.photoism.photoism_server.common.jwt.JwtAuthenticationFilter;
 import com.photoism.photoism_server.common.jwt.JwtProperties;
+import com.photoism.photoism_server.common.jwt.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +38,7 @@ import static org.springframework.security.config.Customizer.withDefaults;
 public class  SecurityConfig {
 
     private final JwtProperties jwtProperties;
+    private final OpaqueTokenProperties opaqueTokenProperties;
 
     @Bean
     public Jwt jwt() {
@@ -44,6 +50,19 @@ public class  SecurityConfig {
         );
     }
 
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache() {
+        return new VerifiedTokenCache(jwtProperties.getVerifiedTokenCacheSize());
+    }
+
+    @Bean
+    public AuthRequestTracer authRequestTracer() {
+        if (!jwtProperties.isTraceEnabled()) {
+            return AuthRequestTracer.disabled();
+        }
+        return new AuthRequestTracer(true, jwtProperties.getTraceSampleRate());
+    }
+
     @Bean
     CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -71,7 +90,21 @@ public class  SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwt());
+        return new JwtAuthenticationFilter(jwt(), verifiedTokenCache(), authRequestTracer());
+    }
+
+    @Bean
+    public OpaqueTokenSessionIndex opaqueTokenSessionIndex() {
+        return new OpaqueTokenSessionIndex(
+                opaqueTokenProperties.getMaxSize(),
+                opaqueTokenProperties.getStripes(),
+                opaqueTokenProperties.getTtlSeconds() * 1000L
+        );
+    }
+
+    @Bean
+    public CustomAuthenticationFilter customAuthenticationFilter() {
+        return new CustomAuthenticationFilter(opaqueTokenSessionIndex(), opaqueTokenProperties.getHeaderName());
     }
 
     @Bean
@@ -105,6 +138,11 @@ public class  SecurityConfig {
                 .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
                 .cors(withDefaults());
 
+        // 긴 JWT를 보관하기 어려운 키오스크 기기는 불투명 토큰으로 인증 (JWT 필터보다 먼저 확인)
+        if (opaqueTokenProperties.isEnabled()) {
+            http.addFilterBefore(customAuthenticationFilter(), JwtAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 }
@@ -0,0 +1,25 @@
+package com.photoism.photoism_server.common.config;
+
+/**
+ * 테이블 기반 ID 생성기(pooled) 설정값입니다.
+ *
+ * IDENTITY 전략은 INSERT마다 생성된 키를 받아야 해서 Hibernate가 JDBC 배치를 끄므로,
+ * 사진 세션처럼 여러 행을 한 번에 저장하는 엔티티는 hibernate_sequences 테이블에서 ID를 ALLOCATION_SIZE개씩 미리 받아 씁니다.
+ * 테이블과 시작 값은 db/migration/V1__init_schema.sql 에서 만듭니다.
+ *
+ * 블록을 다 쓰면 Hibernate는 요청 트랜잭션과 분리하기 위해 풀에서 연결을 하나 더 꺼내 ID 행을 잠그고 올린 뒤 커밋합니다.
+ * 생성기마다 한 번에 한 스레드만 할당하므로(나머지는 연결을 쥔 채 기다림) 동시에 더 필요한 연결은 생성기 수(GENERATOR_COUNT)만큼이고,
+ * 풀이 요청 트랜잭션으로 가득 차면 할당이 connection-timeout까지 기다리다 실패합니다.
+ * 그래서 풀 최대 크기는 동시에 트랜잭션을 여는 요청 수보다 이만큼 크게 잡습니다. (application.yml의 spring.datasource.hikari)
+ */
+public final class TableIdGenerators {
+
+    public static final String TABLE = "hibernate_sequences";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50; // hibernate.jdbc.batch_size와 맞춤
+    public static final int GENERATOR_COUNT = 3; // image, photo_book, correction
+
+    private TableIdGenerators() {
+    }
+}
@@ -0,0 +1,32 @@
+package com.photoism.photoism_server.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * virtual 프로필에서 가상 스레드(Java 21+)로 요청과 백그라운드 작업을 실행하도록 설정합니다.
+ * 톰캣 요청 처리와 @Async(applicationTaskExecutor)는 spring.threads.virtual.enabled 설정으로 전환되고,
+ * Quartz 작업은 이 설정에서 가상 스레드 실행기로 바꿉니다.
+ */
+@Slf4j
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException(
+                    "virtual 프로필은 Java 21 이상이 필요합니다. 현재 버전: " + Runtime.version());
+        }
+        log.info("가상 스레드 실행 모드로 기동합니다.");
+    }
+
+    @Bean
+    public SchedulerFactoryBeanCustomizer virtualThreadSchedulerCustomizer() {
+        return schedulerFactoryBean -> schedulerFactoryBean.setTaskExecutor(new VirtualThreadTaskExecutor("quartz-"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.photoism.photoism_server.common.crypto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+    private int strength = 0; // BCrypt 강도를 고정할 때 사용 (0이면 기동 시 측정해서 결정)
+    private long targetMillis = 100; // 해시 1회에 허용하는 목표 시간
+    private int minStrength = 10; // 측정 결과와 관계없이 보장하는 최소 강도
+    private int maxStrength = 14;
+    private int threads = Runtime.getRuntime().availableProcessors(); // 해시 전용 스레드 수
+    private int queueCapacity = 64; // 대기열이 가득 차면 즉시 거절
+    private long timeoutMillis = 3000; // 요청 스레드가 결과를 기다리는 최대 시간
+}
@@ -0,0 +1,160 @@
+package com.photoism.photoism_server.common.crypto;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시를 담당하는 서비스입니다.
+ * BCrypt 강도는 기동 시 목표 시간에 맞춰 측정하며, 해시 연산은 크기가 제한된 전용 스레드 풀에서 실행합니다.
+ * 로그인 요청이 몰려도 톰캣 스레드가 모두 BCrypt 연산에 묶이지 않고, 넘치는 요청은 바로 거절됩니다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final String ENCODING_ID = "bcrypt";
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHashingService(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.strength = properties.getStrength() > 0 ? properties.getStrength() : calibrate(properties);
+        this.timeoutMillis = properties.getTimeoutMillis();
+
+        // 새 해시는 {bcrypt} 접두사로 저장하고, 접두사가 없는 기존 해시도 BCrypt로 확인합니다.
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.passwordEncoder = delegating;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("password.hash")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash")
+                .tag("operation", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("password.hash.strength", () -> strength)
+                .register(meterRegistry);
+
+        log.info("비밀번호 해시 강도: {} (목표 {}ms)", strength, properties.getTargetMillis());
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> timed(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 저장된 해시가 현재 설정(접두사, 강도)보다 약해서 다시 해시해야 하는지 확인합니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.UNKNOWN_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static <T> T timed(Timer timer, Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 최소 강도에서 한 번 측정한 뒤, 강도가 1 오를 때마다 비용이 두 배가 되는 점을 이용해
+    // 목표 시간을 넘지 않는 가장 높은 강도를 고릅니다.
+    private static int calibrate(PasswordHashingProperties properties) {
+        int minStrength = properties.getMinStrength();
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        String sample = encoder.encode("calibration"); // JIT 워밍업
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.matches("calibration", sample);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(properties.getTargetMillis());
+        int strength = minStrength;
+        long cost = best;
+        while (strength < properties.getMaxStrength() && cost * 2 <= targetNanos) {
+            cost *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
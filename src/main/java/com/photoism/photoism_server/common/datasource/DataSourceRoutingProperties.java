@@ -0,0 +1,30 @@
+package com.photoism.photoism_server.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource-routing")
+public class DataSourceRoutingProperties {
+    private boolean enabled = false; // true면 읽기 전용 트랜잭션을 복제본으로 보냄
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration maxLag = Duration.ofSeconds(2); // 복제 지연이 이보다 크면 그 복제본은 쓰지 않고 primary로 읽음
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url; // 비어 있으면 무시
+        private String username;
+        private String password;
+        private Integer maximumPoolSize; // 없으면 primary 풀 크기를 따름
+    }
+}
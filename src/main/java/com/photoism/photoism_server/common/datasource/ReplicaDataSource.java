@@ -0,0 +1,27 @@
+package com.photoism.photoism_server.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+/**
+ * 읽기 복제본 하나의 커넥션 풀과 마지막으로 확인한 복제 상태입니다.
+ * 상태는 ReplicaLagChecker가 갱신하며, 확인 전이나 지연이 크면 라우팅 대상에서 빠집니다.
+ */
+@Getter
+public class ReplicaDataSource {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile boolean available = false;
+    private volatile long lagSeconds = -1; // 알 수 없으면 -1
+
+    public ReplicaDataSource(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void update(boolean available, long lagSeconds) {
+        this.available = available;
+        this.lagSeconds = lagSeconds;
+    }
+}
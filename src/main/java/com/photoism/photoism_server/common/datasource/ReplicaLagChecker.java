@@ -0,0 +1,91 @@
+package com.photoism.photoism_server.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 복제본마다 복제 지연(Seconds_Behind_Source)을 주기적으로 확인해 라우팅 대상 여부를 정합니다.
+ * 복제가 멈췄거나(NULL), 복제본이 아니거나(결과 없음), 연결할 수 없거나, 지연이 max-lag를 넘으면 primary에서 읽습니다.
+ * 확인하는 계정에는 REPLICATION CLIENT(MariaDB는 REPLICA MONITOR/SLAVE MONITOR) 권한이 필요합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class ReplicaLagChecker {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final long maxLagSeconds;
+
+    public ReplicaLagChecker(ReadWriteRoutingDataSource routingDataSource,
+                             DataSourceRoutingProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagSeconds = properties.getMaxLag().toSeconds();
+        for (ReplicaDataSource replica : routingDataSource.getReplicas()) {
+            Gauge.builder("datasource.replica.lag", replica, ReplicaDataSource::getLagSeconds)
+                    .tag("replica", replica.getName())
+                    .baseUnit("seconds")
+                    .description("복제 지연 (알 수 없으면 -1)")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-routing.lag-check-interval:PT2S}")
+    public void check() {
+        for (ReplicaDataSource replica : routingDataSource.getReplicas()) {
+            long lag = lagSeconds(replica);
+            boolean available = lag >= 0 && lag <= maxLagSeconds;
+            if (available != replica.isAvailable()) {
+                if (available) {
+                    log.info("복제본 {} 읽기 재개 (지연 {}초)", replica.getName(), lag);
+                } else {
+                    log.warn("복제본 {} 읽기 중단, primary에서 읽음 (지연 {})",
+                            replica.getName(), lag < 0 ? "확인 불가" : lag + "초");
+                }
+            }
+            replica.update(available, lag);
+        }
+    }
+
+    private long lagSeconds(ReplicaDataSource replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("show replica status")) {
+                return readLag(rs);
+            } catch (SQLException e) {
+                // MySQL 8.0.22, MariaDB 10.5.1 이전 버전
+                try (ResultSet rs = statement.executeQuery("show slave status")) {
+                    return readLag(rs);
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("복제본 {} 상태 확인 실패: {}", replica.getName(), e.getMessage());
+            return -1;
+        }
+    }
+
+    private static long readLag(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return -1; // 복제본으로 설정되지 않음
+        }
+        long lag;
+        try {
+            lag = rs.getLong("Seconds_Behind_Source");
+        } catch (SQLException e) {
+            lag = rs.getLong("Seconds_Behind_Master"); // MariaDB, 이전 MySQL의 컬럼 이름
+        }
+        return rs.wasNull() ? -1 : lag; // NULL이면 복제 스레드가 멈춘 상태
+    }
+}
@@ -0,0 +1,43 @@
+package com.photoism.photoism_server.common.datasource;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본에서 읽으므로, 그 안에서 읽은 엔티티를 2차 캐시에 넣지 않습니다. (캐시에서 읽기만 함)
+ * 복제 지연 중에 읽은 예전 값이 캐시에 들어가면 primary가 바뀐 뒤에도 만료나 다음 변경 전까지 남기 때문입니다.
+ * 캐시는 primary에서 읽는 트랜잭션만 채웁니다.
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    private record ReadOnlyTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = getSession(entityManager);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReadOnlyTransactionData(transactionData, session, previous);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+            super.cleanupTransaction(readOnly.delegate());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+}
@@ -1,9 +1,5 @@
 package com.photoism.photoism_server.common.exception;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.photoism.photoism_server.common.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -11,9 +7,6 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-
-import static org.springframework.http.MediaType.APPLICATION_JSON;
 
 @Slf4j  // SLF4J 로깅을 위한 Lombok 어노테이션
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
@@ -28,27 +21,12 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
                 request.getRequestURI(), e.getClass().getSimpleName(), e.getMessage()
         );
 
-        // 응답의 문자 인코딩과 콘텐츠 타입 설정
-        response.setCharacterEncoding("UTF-8");
-        response.setContentType(APPLICATION_JSON.toString());  // 응답 타입을 JSON으로 설정
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);  // HTTP 상태 코드를 403 (Forbidden)으로 설정
-
-        // 에러 응답 객체 생성
-        ErrorResponse errorResponse = ErrorResponse.of(
+        // HTTP 상태 코드 403 (Forbidden)과 ErrorResponse 형식의 JSON을 응답 스트림에 바로 작성
+        SecurityErrorResponseWriter.write(
+                response,
+                HttpServletResponse.SC_FORBIDDEN,
                 e.getMessage(),  // 에러 메시지
-                request.getRequestURI(),  // 요청 URI
-                null  // 입력 에러 정보 (없음)
+                request.getRequestURI()  // 요청 URI
         );
-
-        // Jackson ObjectMapper를 사용하여 ErrorResponse 객체를 JSON 문자열로 변환
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());  // Java 8 날짜 및 시간 API 모듈 등록
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);  // 날짜를 타임스탬프로 변환하지 않도록 설정
-
-        // 응답에 JSON 문자열을 작성
-        PrintWriter writer = response.getWriter();
-        writer.write(objectMapper.writeValueAsString(errorResponse));
-        writer.flush();  // 버퍼를 플러시하여 응답을 클라이언트에 전송
-        writer.close();  // PrintWriter 닫기
     }
 }
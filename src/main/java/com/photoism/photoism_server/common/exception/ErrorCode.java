@@ -15,6 +15,19 @@ public enum ErrorCode {
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT,"이미 사용 중인 이메일입니다."),
     EMAIL_NOT_FOUND(HttpStatus.NOT_FOUND,"찾을 수 없는 이메일 입니다."),
     INVALID_PASSWORD(HttpStatus.BAD_REQUEST,"비밀번호가 일치하지 않습니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED,"유효하지 않은 리프레시 토큰입니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED,"이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE,"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    STORAGE_BUSY(HttpStatus.SERVICE_UNAVAILABLE,"파일 처리 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    UPLOAD_NOT_FOUND(HttpStatus.NOT_FOUND,"존재하지 않거나 만료된 업로드입니다."),
+    UPLOAD_IN_PROGRESS(HttpStatus.CONFLICT,"같은 업로드에 대한 다른 요청이 처리 중입니다."),
+    UPLOAD_OFFSET_MISMATCH(HttpStatus.CONFLICT,"업로드 위치가 서버와 일치하지 않습니다. 현재 위치를 조회 후 다시 시도해주세요."),
+    UPLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE,"파일 크기가 허용 범위를 넘었습니다."),
+    UPLOAD_INCOMPLETE(HttpStatus.BAD_REQUEST,"아직 모든 데이터를 받지 못했습니다."),
+    UPLOAD_HASH_MISMATCH(HttpStatus.BAD_REQUEST,"파일 해시가 일치하지 않습니다."),
+    UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR,"파일을 저장하지 못했습니다."),
+    THUMBNAIL_UNSUPPORTED(HttpStatus.UNSUPPORTED_MEDIA_TYPE,"처리할 수 없는 이미지 형식입니다."),
+    IMAGE_TOO_MANY_PIXELS(HttpStatus.UNPROCESSABLE_ENTITY,"이미지 해상도가 처리할 수 있는 범위를 넘었습니다."),
     RESERVATION_ALREADY_EXISTS(HttpStatus.CONFLICT,"해당 일에 예약이 이미 존재합니다."),
     RESERVATION_ALREADY_EXISTS_THIS_WEEK(HttpStatus.CONFLICT,"해당 주에 이미 에약을 했습니다.");
 
@@ -0,0 +1,107 @@
+package com.photoism.photoism_server.common.exception;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * 시큐리티 필터 단계(401, 403)의 에러 응답을 작성하는 유틸리티 클래스입니다.
+ * ErrorResponse와 같은 형태의 JSON을 중간 문자열 없이 응답 스트림에 바로 씁니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SecurityErrorResponseWriter {
+
+    // JsonFactory는 스레드 안전하며, 한 번 만들어 모든 요청에서 공유합니다.
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // ErrorResponse의 필드명은 미리 UTF-8 바이트로 직렬화해 둡니다.
+    private static final SerializableString MESSAGE = preSerialize("message");
+    private static final SerializableString PATH = preSerialize("path");
+    private static final SerializableString TIME = preSerialize("time");
+    private static final SerializableString INPUT_ERRORS = preSerialize("inputErrors");
+
+    // ErrorResponse.time의 @JsonFormat 패턴과 동일
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 같은 초 안의 응답은 직렬화된 시간 값을 재사용합니다.
+    private static volatile CachedTime cachedTime = new CachedTime(Long.MIN_VALUE, null);
+
+    /**
+     * 고정된 메시지를 미리 직렬화합니다. 반환된 값은 여러 스레드에서 공유해도 안전합니다.
+     */
+    public static SerializableString preSerialize(String value) {
+        SerializedString serialized = new SerializedString(value);
+        serialized.asQuotedUTF8(); // 이스케이프된 UTF-8 바이트를 미리 계산해 둠
+        return serialized;
+    }
+
+    /**
+     * 미리 직렬화된 메시지로 에러 응답을 작성합니다.
+     */
+    public static void write(HttpServletResponse response, int status,
+                             SerializableString message, String path) throws IOException {
+        try (JsonGenerator generator = start(response, status)) {
+            generator.writeFieldName(MESSAGE);
+            generator.writeString(message);
+            writeRest(generator, path);
+        }
+    }
+
+    /**
+     * 요청마다 달라지는 메시지로 에러 응답을 작성합니다.
+     */
+    public static void write(HttpServletResponse response, int status,
+                             String message, String path) throws IOException {
+        try (JsonGenerator generator = start(response, status)) {
+            generator.writeFieldName(MESSAGE);
+            generator.writeString(message);
+            writeRest(generator, path);
+        }
+    }
+
+    private static JsonGenerator start(HttpServletResponse response, int status) throws IOException {
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(APPLICATION_JSON.toString());
+        response.setStatus(status);
+
+        JsonGenerator generator = JSON_FACTORY.createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+        generator.writeStartObject();
+        return generator;
+    }
+
+    private static void writeRest(JsonGenerator generator, String path) throws IOException {
+        generator.writeFieldName(PATH);
+        generator.writeString(path);
+        generator.writeFieldName(TIME);
+        generator.writeString(currentTime());
+        generator.writeFieldName(INPUT_ERRORS);
+        generator.writeNull(); // 시큐리티 에러에는 입력 에러 정보가 없음
+        generator.writeEndObject();
+    }
+
+    private static SerializableString currentTime() {
+        LocalDateTime now = LocalDateTime.now();
+        long second = now.toEpochSecond(ZoneOffset.UTC);
+        CachedTime cached = cachedTime;
+        if (cached.second != second) {
+            cached = new CachedTime(second, preSerialize(now.format(TIME_FORMAT)));
+            cachedTime = cached;
+        }
+        return cached.value;
+    }
+
+    private record CachedTime(long second, SerializableString value) {
+    }
+}
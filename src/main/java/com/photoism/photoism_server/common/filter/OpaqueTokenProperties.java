@@ -0,0 +1,18 @@
+package com.photoism.photoism_server.common.filter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "opaque-token")
+public class OpaqueTokenProperties {
+    private boolean enabled = false; // 필터 체인에 불투명 토큰 인증 필터를 추가할지 여부
+    private String headerName = "access_token";
+    private int ttlSeconds = 43_200; // 세션 유효 시간 (기본 12시간)
+    private int maxSize = 10_000; // 전체 세션 최대 개수
+    private int stripes = 16; // 잠금을 나누는 단위 수
+}
@@ -0,0 +1,171 @@
+package com.photoism.photoism_server.common.filter;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 불투명(opaque) 토큰과 사용자 세션을 매핑하는 인덱스입니다.
+ * 긴 JWT를 보관하기 어려운 키오스크 기기를 위해 짧은 랜덤 토큰을 발급합니다.
+ * 토큰 해시에 따라 여러 stripe로 나누어 각 stripe만 잠그므로 요청 스레드끼리 경합이 적고,
+ * 항목마다 만료 시각을 가지며 stripe별 최대 크기를 넘으면 가장 오래 사용되지 않은 세션부터 제거합니다.
+ */
+public class OpaqueTokenSessionIndex {
+
+    private static final int TOKEN_BYTES = 24;
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Stripe[] stripes;
+    private final long ttlMillis;
+
+    public OpaqueTokenSessionIndex(int maxSize, int stripeCount, long ttlMillis) {
+        if (maxSize <= 0 || stripeCount <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maxSize, stripeCount, ttlMillis는 0보다 커야 합니다.");
+        }
+        int perStripe = Math.max(1, maxSize / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 새 불투명 토큰을 발급하고 세션을 등록합니다.
+     *
+     * @return 발급된 토큰 (URL-safe Base64, 32자)
+     */
+    public String issue(Long memberId, String[] roles, String provider) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = TOKEN_ENCODER.encodeToString(bytes);
+        register(token, memberId, roles, provider);
+        return token;
+    }
+
+    /**
+     * 이미 발급된 토큰으로 세션을 등록합니다. 같은 토큰이 있으면 덮어씁니다.
+     */
+    public void register(String token, Long memberId, String[] roles, String provider) {
+        Session session = new Session(memberId, toAuthorities(roles), provider,
+                System.currentTimeMillis() + ttlMillis);
+        Stripe stripe = stripeFor(token);
+        stripe.lock.lock();
+        try {
+            stripe.sessions.put(token, session);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 토큰에 해당하는 세션을 조회합니다. 만료된 세션은 제거하고 null을 반환합니다.
+     */
+    public Session lookup(String token) {
+        Stripe stripe = stripeFor(token);
+        long now = System.currentTimeMillis();
+        stripe.lock.lock();
+        try {
+            Session session = stripe.sessions.get(token); // 접근 순서 갱신 (LRU)
+            if (session != null && session.expiresAtMillis() <= now) {
+                stripe.sessions.remove(token);
+                return null;
+            }
+            return session;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void revoke(String token) {
+        Stripe stripe = stripeFor(token);
+        stripe.lock.lock();
+        try {
+            stripe.sessions.remove(token);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 회원의 모든 세션을 폐기합니다. (로그아웃, 비밀번호 변경, 토큰 탈취 감지 등)
+     *
+     * @return 폐기된 세션 수
+     */
+    public int revokeByMemberId(Long memberId) {
+        long now = System.currentTimeMillis();
+        int revoked = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                int before = stripe.sessions.size();
+                // 다른 회원의 만료된 세션도 함께 정리
+                stripe.sessions.values().removeIf(session ->
+                        memberId.equals(session.memberId()) || session.expiresAtMillis() <= now);
+                revoked += before - stripe.sessions.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return revoked;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.sessions.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String token) {
+        int hash = token.hashCode();
+        return stripes[((hash ^ (hash >>> 16)) & 0x7fffffff) % stripes.length];
+    }
+
+    // 권한 객체는 등록 시 한 번만 만들고 요청마다 재사용합니다.
+    private static List<GrantedAuthority> toAuthorities(String[] roles) {
+        if (roles == null) {
+            return List.of();
+        }
+        return Arrays.stream(roles)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    public record Session(
+            Long memberId,  // 사용자 ID
+            List<GrantedAuthority> authorities,  // 사용자 권한 목록
+            String provider,  // 인증 제공자
+            long expiresAtMillis  // 세션 만료 시각
+    ) {
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Session> sessions;
+
+        private Stripe(int maxSize) {
+            // accessOrder=true 인 LinkedHashMap으로 LRU를 구성하고, 최대 크기를 넘으면 가장 오래된 항목 제거
+            this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+    }
+}
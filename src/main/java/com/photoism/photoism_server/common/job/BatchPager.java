@@ -0,0 +1,56 @@
+package com.photoism.photoism_server.common.job;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 유지보수 작업을 id 기준 keyset 페이지 단위로 나누어 실행하는 유틸리티 클래스입니다.
+ * 페이지마다 별도 트랜잭션을 사용하므로 큰 범위의 행을 오래 잠그지 않습니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchPager {
+
+    /**
+     * 더 이상 가져올 행이 없을 때까지 페이지를 조회하고 처리합니다.
+     *
+     * @param fetch   마지막으로 처리한 id를 받아 다음 페이지를 조회
+     * @param idOf    행의 id
+     * @param process 페이지 처리 (트랜잭션 안에서 실행)
+     * @return 처리한 전체 행 수
+     */
+    public static <T> long run(TransactionTemplate transactionTemplate,
+                               int batchSize,
+                               Duration pause,
+                               Function<Long, List<T>> fetch,
+                               ToLongFunction<T> idOf,
+                               Consumer<List<T>> process) throws InterruptedException {
+        long lastId = 0L;
+        long total = 0L;
+        while (true) {
+            long cursor = lastId;
+            List<T> page = transactionTemplate.execute(status -> {
+                List<T> rows = fetch.apply(cursor);
+                if (!rows.isEmpty()) {
+                    process.accept(rows);
+                }
+                return rows;
+            });
+            if (page == null || page.isEmpty()) {
+                return total;
+            }
+            total += page.size();
+            lastId = idOf.applyAsLong(page.get(page.size() - 1));
+            if (page.size() < batchSize) {
+                return total;
+            }
+            Thread.sleep(pause.toMillis());
+        }
+    }
+}
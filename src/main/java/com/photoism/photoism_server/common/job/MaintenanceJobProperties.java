@@ -0,0 +1,24 @@
+package com.photoism.photoism_server.common.job;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "maintenance-job")
+public class MaintenanceJobProperties {
+    private int batchSize = 500; // 한 트랜잭션에서 처리하는 최대 행 수
+    private Duration pauseBetweenBatches = Duration.ofMillis(100); // 배치 사이 대기 (DB 부하 분산)
+    private String refreshTokenPurgeCron = "0 0 4 * * ?";
+    private String orphanImageCleanupCron = "0 30 4 * * ?";
+    private Duration orphanImageGracePeriod = Duration.ofDays(1); // 업로드 후 이 시간이 지나야 고아로 판단
+    private String blobGcCron = "0 0 5 * * ?";
+    private Duration blobGcGracePeriod = Duration.ofHours(6); // 참조가 0이 된 뒤 이 시간이 지나야 파일 삭제
+    private String thumbnailBackfillCron = "0 */10 * * * ?";
+    private String thumbnailUrlTemplate = "{photoUrl}"; // {photoUrl}, {id} 치환
+}
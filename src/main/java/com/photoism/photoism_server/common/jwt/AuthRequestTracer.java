@@ -0,0 +1,59 @@
+package com.photoism.photoism_server.common.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Enumeration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인증 필터의 요청 추적 로그를 담당하는 클래스입니다.
+ * 운영 경로에서는 아무 일도 하지 않으며, 진단 모드를 켠 경우에만 샘플링된 요청의 정보를 남깁니다.
+ */
+@Slf4j
+public class AuthRequestTracer {
+
+    private static final AuthRequestTracer DISABLED = new AuthRequestTracer(false, 0);
+
+    private final boolean enabled;
+    private final double sampleRate;
+
+    public AuthRequestTracer(boolean enabled, double sampleRate) {
+        this.enabled = enabled;
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+    }
+
+    public static AuthRequestTracer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * 이번 요청을 추적할지 결정합니다. 진단 모드가 꺼져 있으면 항상 false 입니다.
+     */
+    public boolean isSampled() {
+        return enabled && log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * 샘플링된 요청의 메서드, URI, 헤더와 인증 결과를 기록합니다. 토큰 값은 기록하지 않습니다.
+     */
+    public void trace(HttpServletRequest request, boolean hasToken, Long memberId) {
+        StringBuilder headers = new StringBuilder();
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement();
+            if (headers.length() > 0) {
+                headers.append(", ");
+            }
+            headers.append(headerName).append('=');
+            if ("Authorization".equalsIgnoreCase(headerName)) {
+                headers.append("***"); // 토큰 원문은 남기지 않음
+            } else {
+                headers.append(request.getHeader(headerName));
+            }
+        }
+        log.info("[auth-trace] {} {}?{} hasToken={} memberId={} headers=[{}]",
+                request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                hasToken, memberId, headers);
+    }
+}
@@ -12,6 +12,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.Date;
+import java.util.UUID;
 
 public class Jwt {
     private final String issuer;
@@ -38,6 +39,10 @@ public class Jwt {
         return sign(claims, refreshTokenExpire);
     }
 
+    public int getRefreshTokenExpire() {
+        return refreshTokenExpire;
+    }
+
     public TokenResponse generateAllToken(Claims claims) {
         return new TokenResponse(generateAccessToken(claims), generateRefreshToken(claims));
     }
@@ -47,6 +52,7 @@ public class Jwt {
         return JWT.create()
                 .withIssuer(issuer)
                 .withIssuedAt(now)
+                .withJWTId(UUID.randomUUID().toString()) // 같은 초에 발급된 토큰도 서로 다르게
                 .withExpiresAt(new Date(now.getTime() + expireTime * 1000L))
                 .withClaim("memberId", claims.memberId)
                 .sign(algorithm);
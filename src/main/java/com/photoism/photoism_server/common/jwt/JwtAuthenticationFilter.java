@@ -1,5 +1,6 @@
 package com.photoism.photoism_server.common.jwt;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,13 +12,16 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Enumeration;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final Jwt jwt;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthRequestTracer tracer;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -26,72 +30,54 @@ public class JwtAuthenticationFilter extends GenericFilter {
         HttpServletResponse httpServletResponse = (HttpServletResponse) response;
 
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
-            log.info("getAuthentication is null");
             String token = getAccessToken(httpServletRequest);
-
-            log.info("토큰 : " + token);
+            Long memberId = null;
 
             if (token != null) {
                 try {
-                    Jwt.Claims claims = verify(token);
-                    Long memberId = claims.getMemberId();
-
-                    log.info("memberId : " + memberId);
-
+                    memberId = verify(token).getMemberId();
                     if (memberId != null) {
-                        UsernamePasswordAuthenticationToken authentication =
-                                new UsernamePasswordAuthenticationToken(memberId, null);
-                        log.info("authentication : " + authentication.toString());
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        SecurityContextHolder.getContext().setAuthentication(
+                                new UsernamePasswordAuthenticationToken(memberId, null));
                     }
+                } catch (JWTVerificationException e) {
+                    // 만료/위조 토큰은 흔한 상황이므로 운영 로그 레벨에서는 남기지 않음
+                    log.debug("Jwt 검증에 실패하였습니다 : {}", e.getMessage());
                 } catch (Exception e) {
                     log.warn("Jwt 처리중 문제가 발생하였습니다 : {}", e.getMessage());
                 }
             }
-        } else {
-            log.debug("이미 인증 객체가 존재합니다 : {}",
-                    SecurityContextHolder.getContext().getAuthentication());
+
+            if (tracer.isSampled()) {
+                tracer.trace(httpServletRequest, token != null, memberId);
+            }
         }
         chain.doFilter(httpServletRequest, httpServletResponse);
     }
 
+    // Authorization 헤더에서 'Bearer ' 이후의 토큰만 추출합니다.
+    // JWT는 Base64URL 문자만 사용하므로 '%'가 포함된 경우에만 URL 디코딩합니다.
     private String getAccessToken(HttpServletRequest request) {
-        log.warn("리퀘스트 로그 시작");
-
-        log.warn("Method: " + request.getMethod());
-        log.warn("Request URI: " + request.getRequestURI());
-        log.warn("Query String: " + request.getQueryString());
-
-        log.warn("Headers:");
-        Enumeration<String> headerNames = request.getHeaderNames();
-        while (headerNames.hasMoreElements()) {
-            String headerName = headerNames.nextElement();
-            log.info("헤더: " + headerName + " 값: " + request.getHeader(headerName));
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader == null
+                || !authorizationHeader.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
         }
 
-        String authorizationHeader = request.getHeader("Authorization"); // Authorization 헤더에서 토큰을 가져옴
-        log.info("Raw Authorization Header : " + authorizationHeader);
-
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            log.info("Authorization 헤더에 Bearer 토큰 존재");
-            String token = authorizationHeader.substring(7); // 'Bearer ' 이후의 토큰만 추출
+        String token = authorizationHeader.substring(BEARER_PREFIX.length());
+        if (token.indexOf('%') >= 0) {
             try {
-                String decodedToken = URLDecoder.decode(token, StandardCharsets.UTF_8);
-                log.info("Decoded accessToken : " + decodedToken);
-                return decodedToken;
-            } catch (Exception e) {
-                log.error("엑세스 토큰 디코딩 실패: " + e.getMessage(), e);
+                return URLDecoder.decode(token, StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                log.debug("엑세스 토큰 디코딩 실패: {}", e.getMessage());
+                return null;
             }
-        } else {
-            log.warn("Authorization 헤더가 null이거나 Bearer 토큰이 없습니다.");
         }
-
-        return null;
+        return token;
     }
 
+    // 이미 검증된 토큰은 캐시에서 바로 Claims를 가져옵니다.
     private Jwt.Claims verify(String token) {
-        return jwt.verify(token);
+        return verifiedTokenCache.verify(token, jwt::verify);
     }
 }
-
-
@@ -15,5 +15,8 @@ public class JwtProperties {
     private String clientSecret;
     private int tokenExpire;
     private int refreshTokenExpire;
+    private int verifiedTokenCacheSize = 10_000; // 검증된 액세스 토큰 캐시의 최대 항목 수
+    private boolean traceEnabled = false; // 인증 요청 추적 로그(진단 모드) 사용 여부
+    private double traceSampleRate = 0.01; // 진단 모드에서 추적할 요청 비율 (0.0 ~ 1.0)
 }
 
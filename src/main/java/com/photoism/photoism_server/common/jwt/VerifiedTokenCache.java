@@ -0,0 +1,102 @@
+package com.photoism.photoism_server.common.jwt;
+
+import com.photoism.photoism_server.common.util.TokenHashUtil;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims를 보관하는 캐시입니다.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 최대 크기와 각 토큰의 exp 기준으로 제거됩니다.
+ */
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<ByteBuffer, Jwt.Claims> cache;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public VerifiedTokenCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.cache = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+    }
+
+    /**
+     * 캐시에 있는 토큰이면 저장된 Claims를 반환하고, 없으면 verifier로 검증한 뒤 캐시에 저장합니다.
+     * verifier가 던진 예외는 그대로 전파되며, 검증에 실패한 토큰은 캐시되지 않습니다.
+     */
+    public Jwt.Claims verify(String token, Function<String, Jwt.Claims> verifier) {
+        ByteBuffer key = ByteBuffer.wrap(TokenHashUtil.sha256(token));
+        long now = System.currentTimeMillis();
+
+        Jwt.Claims cached = cache.get(key);
+        if (cached != null) {
+            if (!isExpired(cached, now)) {
+                hitCount.increment();
+                return cached;
+            }
+            cache.remove(key, cached); // 만료된 토큰은 다시 검증하도록 제거 (검증기에서 만료 예외 발생)
+        }
+        missCount.increment();
+
+        Jwt.Claims claims = verifier.apply(token);
+        if (claims.getExp() != null) { // exp가 없는 토큰은 언제 제거해야 할지 알 수 없으므로 캐시하지 않음
+            if (cache.size() >= maxSize) {
+                evict(now);
+            }
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    // 만료된 항목을 먼저 제거하고, 그래도 가득 차 있으면 최대 크기의 90%까지 임의로 비웁니다.
+    // 동시에 여러 스레드가 정리하지 않도록 한 스레드만 수행합니다.
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cache.values().removeIf(claims -> isExpired(claims, now));
+
+            int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<ByteBuffer> iterator = cache.keySet().iterator();
+            while (cache.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static boolean isExpired(Jwt.Claims claims, long now) {
+        Date exp = claims.getExp();
+        return exp == null || exp.getTime() <= now;
+    }
+}
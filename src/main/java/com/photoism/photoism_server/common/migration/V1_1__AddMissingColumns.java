@@ -0,0 +1,81 @@
+package com.photoism.photoism_server.common.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Flyway 도입 전 ddl-auto: update 로 만든 DB에 빠진 컬럼을 추가합니다.
+ *
+ * 그런 DB에는 V1의 CREATE TABLE IF NOT EXISTS가 아무것도 하지 않으므로, 이후에 엔티티에 추가된 컬럼이 없습니다.
+ * information_schema에서 컬럼이 없을 때만 추가하므로 V1로 새로 만든 DB에서는 아무것도 바꾸지 않습니다.
+ * V3가 이 컬럼들에 인덱스를 만들기 때문에 그보다 먼저(1.1) 실행합니다.
+ *
+ * 예전 user.refresh_token(토큰 원문)은 만료 시각을 알 수 없어 해시로 옮기지 않고 지웁니다. (해당 회원은 다시 로그인)
+ */
+@Slf4j
+@Component
+public class V1_1__AddMissingColumns extends BaseJavaMigration {
+
+    private record ColumnSpec(String table, String column, String definition) {
+    }
+
+    private static final List<ColumnSpec> COLUMNS = List.of(
+            new ColumnSpec("user", "refresh_token_hash", "VARCHAR(64) NULL"),
+            new ColumnSpec("user", "refresh_token_expires_at", "DATETIME(6) NULL"),
+            new ColumnSpec("image", "content_hash", "VARCHAR(64) NULL"),
+            new ColumnSpec("image", "file_size", "BIGINT NULL"),
+            new ColumnSpec("image", "content_type", "VARCHAR(255) NULL"),
+            new ColumnSpec("image", "created_at", "DATETIME(6) NULL"),
+            new ColumnSpec("photo_book", "content_hash", "VARCHAR(64) NULL"),
+            new ColumnSpec("photo_book", "thumbnail_url", "VARCHAR(255) NULL")
+            // correction: 이후 추가된 created_at은 V8에서 추가
+    );
+
+    private static final List<ColumnSpec> DROPPED_COLUMNS = List.of(
+            new ColumnSpec("user", "refresh_token", null)
+    );
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        for (ColumnSpec spec : COLUMNS) {
+            if (!exists(connection, spec)) {
+                execute(connection, "alter table `" + spec.table() + "` add column " + spec.column() + " " + spec.definition());
+            }
+        }
+        for (ColumnSpec spec : DROPPED_COLUMNS) {
+            if (exists(connection, spec)) {
+                execute(connection, "alter table `" + spec.table() + "` drop column " + spec.column());
+            }
+        }
+    }
+
+    private static boolean exists(Connection connection, ColumnSpec spec) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "select count(*) from information_schema.columns "
+                        + "where table_schema = database() and table_name = ? and column_name = ?")) {
+            ps.setString(1, spec.table());
+            ps.setString(2, spec.column());
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1) > 0;
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        log.info("컬럼 변경: {}", sql);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
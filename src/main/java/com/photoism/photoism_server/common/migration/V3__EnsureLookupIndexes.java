@@ -0,0 +1,87 @@
+package com.photoism.photoism_server.common.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회에 쓰는 인덱스가 없으면 추가합니다.
+ *
+ * ddl-auto: update 로 만들어진 DB에는 일부 인덱스가 없거나, Hibernate가 붙인 이름(UK..., FK...)으로 같은 인덱스가 있을 수 있습니다.
+ * MySQL에는 CREATE INDEX IF NOT EXISTS가 없으므로 information_schema에서 같은 컬럼 순서(유니크 여부 포함)의 인덱스가
+ * 이미 있는지 이름과 상관없이 확인한 뒤 없을 때만 만듭니다.
+ * (Flyway 클래스 이름 규칙 V<버전>__<설명> 을 따르며, 스프링 빈으로 등록하면 Spring Boot가 Flyway에 넘겨 줌)
+ */
+@Slf4j
+@Component
+public class V3__EnsureLookupIndexes extends BaseJavaMigration {
+
+    private record IndexSpec(String table, String name, boolean unique, List<String> columns) {
+    }
+
+    private static final List<IndexSpec> INDEXES = List.of(
+            // UserRepository: findByEmail(natural id), existsByEmail
+            new IndexSpec("user", "uk_user_email", true, List.of("email")),
+            // UserRepository: findByRefreshTokenHash
+            new IndexSpec("user", "idx_user_refresh_token_hash", false, List.of("refresh_token_hash")),
+            // UserRepository: findIdsWithRefreshTokenExpiredBefore (RefreshTokenPurgeJob)
+            new IndexSpec("user", "idx_user_refresh_token_expires_at", false, List.of("refresh_token_expires_at")),
+            // 포토북 목록 keyset (V7에서 (user_id, created_at, id)로 교체)
+            new IndexSpec("photo_book", "idx_photo_book_user_id_id", false, List.of("user_id", "id")),
+            // ImageRepository.findOrphanIds
+            new IndexSpec("photo_book", "idx_photo_book_photo_url", false, List.of("photo_url")),
+            // 프리셋 조회 (V8에서 (user_id, created_at, id)로 교체)
+            new IndexSpec("correction", "idx_correction_user_id", false, List.of("user_id")),
+            new IndexSpec("image_blob", "uk_image_blob_hash", true, List.of("hash")),
+            new IndexSpec("sms_outbox", "uk_sms_outbox_dedupe_key", true, List.of("dedupe_key")),
+            new IndexSpec("sms_outbox", "idx_sms_outbox_status_next_attempt_at", false, List.of("status", "next_attempt_at"))
+    );
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        for (IndexSpec spec : INDEXES) {
+            if (exists(connection, spec)) {
+                continue;
+            }
+            String sql = "create " + (spec.unique() ? "unique " : "") + "index " + spec.name()
+                    + " on `" + spec.table() + "` (" + String.join(", ", spec.columns()) + ")";
+            log.info("인덱스 추가: {}", sql);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    // 컬럼 구성이 같은 인덱스가 이름과 상관없이 있는지 확인 (유니크가 필요하면 유니크 인덱스만 인정)
+    private static boolean exists(Connection connection, IndexSpec spec) throws SQLException {
+        Map<String, List<String>> columnsByIndex = new LinkedHashMap<>();
+        Map<String, Boolean> uniqueByIndex = new LinkedHashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(
+                "select index_name, column_name, non_unique from information_schema.statistics "
+                        + "where table_schema = database() and table_name = ? order by index_name, seq_in_index")) {
+            ps.setString(1, spec.table());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String index = rs.getString(1);
+                    columnsByIndex.computeIfAbsent(index, k -> new ArrayList<>()).add(rs.getString(2).toLowerCase());
+                    uniqueByIndex.put(index, rs.getInt(3) == 0);
+                }
+            }
+        }
+        return columnsByIndex.entrySet().stream()
+                .anyMatch(e -> e.getValue().equals(spec.columns())
+                        && (!spec.unique() || uniqueByIndex.get(e.getKey())));
+    }
+}
@@ -0,0 +1,122 @@
+package com.photoism.photoism_server.common.migration;
+
+import com.photoism.photoism_server.domain.image.storage.BlobStore;
+import com.photoism.photoism_server.domain.image.storage.ImageStorageProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * blob 저장소 도입 전에 업로드된 이미지를 blob으로 옮깁니다.
+ *
+ * 그 전에는 업로드마다 images/<uploadId>.<확장자> 파일을 만들고 Image.url이 그 파일 이름을 가리켰지만,
+ * 지금은 /files/{hash}가 BlobStore에서만 파일을 찾으므로 옛 URL은 응답하지 못합니다.
+ * 옛 파일을 해시 위치로 옮기고(이미 같은 blob이 있으면 옛 파일은 지움), 이미지와 포토북의 URL을 blob URL로 바꾼 뒤
+ * 이미지 행과 아직 참조를 잡지 않은 포토북 행만큼 blob 참조 수를 늘립니다.
+ * 옛 파일도 blob도 없는 이미지는 옮길 수 없으므로 경고만 남기고 그대로 둡니다. (고아 이미지 정리 작업이 수거)
+ *
+ * 파일은 이 마이그레이션을 실행하는 노드의 image-storage.root 아래에서 찾습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class V6__MoveLegacyImagesToBlobs extends BaseJavaMigration {
+
+    private static final String LEGACY_IMAGE_DIR = "images";
+
+    private final ImageStorageProperties properties;
+    private final BlobStore blobStore;
+
+    private record LegacyImage(long id, String url, String hash, Long fileSize, String contentType) {
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException, IOException {
+        Connection connection = context.getConnection();
+        String prefix = properties.getPublicBaseUrl() + "/";
+        Path legacyDir = properties.getRoot().resolve(LEGACY_IMAGE_DIR);
+
+        int moved = 0;
+        for (LegacyImage image : findLegacyImages(connection, prefix)) {
+            Path legacyFile = image.url().startsWith(prefix)
+                    ? legacyDir.resolve(image.url().substring(prefix.length()))
+                    : null;
+            if (blobStore.exists(image.hash())) {
+                if (legacyFile != null) {
+                    Files.deleteIfExists(legacyFile);
+                }
+            } else if (legacyFile == null || !Files.exists(legacyFile)) {
+                log.warn("옛 이미지 파일 없음, 옮기지 않음: imageId={}, url={}", image.id(), image.url());
+                continue;
+            } else {
+                blobStore.storeIfAbsent(legacyFile, image.hash());
+            }
+
+            String blobUrl = prefix + image.hash();
+            int photoBookRefs = update(connection,
+                    "update photo_book set photo_url = ?, content_hash = ? where photo_url = ? and content_hash is null",
+                    blobUrl, image.hash(), image.url());
+            // 이미 해시가 있는 포토북 행은 담을 때 참조를 잡았으므로 URL만 바꿈
+            update(connection, "update photo_book set photo_url = ? where photo_url = ?", blobUrl, image.url());
+            update(connection, "update image set url = ? where id = ?", blobUrl, image.id());
+            acquire(connection, image, 1 + photoBookRefs);
+            moved++;
+        }
+        if (moved > 0) {
+            log.info("옛 이미지를 blob으로 옮김: {}건", moved);
+        }
+    }
+
+    private static List<LegacyImage> findLegacyImages(Connection connection, String prefix) throws SQLException {
+        List<LegacyImage> images = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(
+                "select id, url, content_hash, file_size, content_type from image "
+                        + "where content_hash is not null and url is not null and url <> concat(?, content_hash)")) {
+            ps.setString(1, prefix);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long fileSize = rs.getLong(4);
+                    images.add(new LegacyImage(rs.getLong(1), rs.getString(2), rs.getString(3).toLowerCase(),
+                            rs.wasNull() ? null : fileSize, rs.getString(5)));
+                }
+            }
+        }
+        return images;
+    }
+
+    // ImageBlobRepository.acquire와 같은 upsert
+    private static void acquire(Connection connection, LegacyImage image, int count) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "insert into image_blob (hash, file_size, content_type, ref_count, created_at, updated_at) "
+                        + "values (?, ?, ?, ?, now(), now()) "
+                        + "on duplicate key update ref_count = ref_count + ?, updated_at = now()")) {
+            ps.setString(1, image.hash());
+            ps.setObject(2, image.fileSize());
+            ps.setString(3, image.contentType());
+            ps.setInt(4, count);
+            ps.setInt(5, count);
+            ps.executeUpdate();
+        }
+    }
+
+    private static int update(Connection connection, String sql, Object... params) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            return ps.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.photoism.photoism_server.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 해시 관련 유틸리티 클래스입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenHashUtil {
+
+    // MessageDigest는 스레드 안전하지 않으므로 스레드마다 하나씩 재사용합니다.
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 계산합니다.
+     *
+     * @param token 원본 토큰
+     * @return 32바이트 다이제스트
+     */
+    public static byte[] sha256(String token) {
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 16진수 문자열로 계산합니다. DB에 토큰 대신 저장할 때 사용합니다.
+     *
+     * @param token 원본 토큰
+     * @return 64자리 16진수 문자열
+     */
+    public static String sha256Hex(String token) {
+        return HexFormat.of().formatHex(sha256(token));
+    }
+}
@@ -0,0 +1,31 @@
+package com.photoism.photoism_server.domain.correction.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 보정 프리셋 캐시 무효화 알림 채널입니다. 한 노드에서 프리셋을 저장하면 다른 노드가 해당 사용자의 캐시 항목을 지웁니다.
+ * 기본 구현은 프로세스 내 전달(LocalCorrectionInvalidationBus)이며,
+ * correction.invalidation=redis 로 Redis pub/sub(RedisCorrectionInvalidationBus)를 사용할 수 있습니다.
+ */
+public interface CorrectionInvalidationBus {
+
+    /**
+     * 구독자 모두에게 알립니다. 보낸 노드도 받으므로 구독자는 origin으로 자기 메시지를 걸러야 합니다.
+     */
+    void publish(CorrectionInvalidation invalidation);
+
+    void subscribe(Consumer<CorrectionInvalidation> listener);
+
+    record CorrectionInvalidation(String origin, Long memberId) {
+
+        String encode() {
+            return origin + ":" + memberId;
+        }
+
+        static CorrectionInvalidation decode(String message) {
+            int separator = message.lastIndexOf(':');
+            return new CorrectionInvalidation(
+                    message.substring(0, separator), Long.valueOf(message.substring(separator + 1)));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.photoism.photoism_server.domain.correction.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 프로세스 안의 구독자에게만 바로 전달하는 기본 구현입니다. (노드가 하나이거나 로컬 개발 시)
+ */
+@Component
+@ConditionalOnProperty(name = "correction.invalidation", havingValue = "memory", matchIfMissing = true)
+public class LocalCorrectionInvalidationBus implements CorrectionInvalidationBus {
+
+    private final List<Consumer<CorrectionInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CorrectionInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<CorrectionInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,72 @@
+package com.photoism.photoism_server.domain.correction.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub으로 모든 노드에 무효화를 알립니다. (correction.invalidation=redis)
+ * 메시지는 "origin:memberId" 문자열 하나이고, 전달되지 못한 알림은 캐시 TTL이 지나면 자연히 정리됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "correction.invalidation", havingValue = "redis")
+public class RedisCorrectionInvalidationBus implements CorrectionInvalidationBus {
+
+    private static final String CHANNEL = "correction-preset-invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer container;
+    private final List<Consumer<CorrectionInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCorrectionInvalidationBus(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> dispatch(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        container.destroy();
+    }
+
+    @Override
+    public void publish(CorrectionInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, invalidation.encode());
+        } catch (RuntimeException e) {
+            // 다른 노드는 TTL이 지날 때까지 예전 프리셋을 볼 수 있음
+            log.warn("보정 프리셋 무효화 알림 실패 (memberId={}): {}", invalidation.memberId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CorrectionInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    private void dispatch(String message) {
+        CorrectionInvalidation invalidation;
+        try {
+            invalidation = CorrectionInvalidation.decode(message);
+        } catch (RuntimeException e) {
+            log.warn("알 수 없는 무효화 메시지: {}", message);
+            return;
+        }
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+}
@@ -1,5 +1,6 @@
 package com.photoism.photoism_server.domain.correction.domain.entity;
 
+import com.photoism.photoism_server.common.config.TableIdGenerators;
 import com.photoism.photoism_server.domain.correction.domain.enums.*;
 import com.photoism.photoism_server.domain.user.domain.entity.User;
 import jakarta.persistence.*;
@@ -7,16 +8,25 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_correction_user_id_created_at_id", columnList = "user_id, created_at, id"))
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Correction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "correction_id")
+    @TableGenerator(name = "correction_id", table = TableIdGenerators.TABLE,
+            pkColumnName = TableIdGenerators.PK_COLUMN, valueColumnName = TableIdGenerators.VALUE_COLUMN,
+            pkColumnValue = "correction", allocationSize = TableIdGenerators.ALLOCATION_SIZE)
+    private Long id; // 배치 INSERT를 위해 IDENTITY 대신 미리 할당받은 ID 사용
 
     private Shape shape;
 
@@ -34,7 +44,11 @@ public class Correction {
 
     private Long lower; // 아랫입술
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt; // 최신 프리셋 판단 기준 (미리 할당받은 ID는 노드마다 블록이 달라 저장 순서와 맞지 않음)
 }
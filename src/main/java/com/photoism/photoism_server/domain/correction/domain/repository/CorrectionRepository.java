@@ -0,0 +1,12 @@
+package com.photoism.photoism_server.domain.correction.domain.repository;
+
+import com.photoism.photoism_server.domain.correction.domain.entity.Correction;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface CorrectionRepository extends JpaRepository<Correction, Long> {
+
+    // 사용자의 현재 프리셋 = 가장 최근에 저장한 보정값 ((user_id, created_at, id) 인덱스를 역순으로 한 건)
+    Optional<Correction> findFirstByUserIdOrderByCreatedAtDescIdDesc(Long userId);
+}
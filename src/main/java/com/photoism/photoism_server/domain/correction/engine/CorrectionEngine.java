@@ -0,0 +1,202 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 보정 프리셋을 사진에 적용하는 순수 자바 엔진입니다.
+ * 픽셀은 int 배열(0x00RRGGBB)로 다루며, 이미지를 타일로 나눠 fork/join 풀에서 병렬 처리합니다.
+ * 픽셀마다 워프 메시로 원본 좌표를 찾아 쌍선형 샘플링하고, 피부 톤 룩업 테이블을 적용합니다.
+ * 처리 중에는 픽셀 단위 객체를 만들지 않습니다.
+ */
+public class CorrectionEngine {
+
+    public static final int DEFAULT_TILE_PIXELS = 64 * 1024;
+
+    private final ForkJoinPool pool;
+    private final PresetTables tables;
+    private final int tilePixels;
+
+    public CorrectionEngine(ForkJoinPool pool, PresetTables tables) {
+        this(pool, tables, DEFAULT_TILE_PIXELS);
+    }
+
+    public CorrectionEngine(ForkJoinPool pool, PresetTables tables, int tilePixels) {
+        this.pool = pool;
+        this.tables = tables;
+        this.tilePixels = tilePixels;
+    }
+
+    public BufferedImage apply(BufferedImage source, CorrectionPreset preset) {
+        BufferedImage input = toIntRgb(source);
+        int width = input.getWidth();
+        int height = input.getHeight();
+        BufferedImage output = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        apply(pixels(input), pixels(output), width, height, preset);
+        return output;
+    }
+
+    /**
+     * 피부/얼굴형 프리셋은 미리 계산된 테이블을 그대로 쓰고, 세부 보정이 있을 때만 메시 사본에 더합니다.
+     * (이 경우 요청마다 메시 사본 하나를 할당)
+     */
+    public void apply(int[] src, int[] dst, int width, int height, CorrectionPreset preset) {
+        WarpMesh mesh = tables.mesh(preset.shape());
+        if (preset.hasFeatureAdjustments()) {
+            mesh = CorrectionWarps.addFeatures(mesh.copy(), preset);
+        }
+        apply(src, dst, width, height, tables.lut(preset.skin()), mesh);
+    }
+
+    public void apply(int[] src, int[] dst, int width, int height, SkinToneLut lut, WarpMesh mesh) {
+        if (src.length < width * height || dst.length < width * height) {
+            throw new IllegalArgumentException("픽셀 배열 크기가 이미지 크기보다 작습니다.");
+        }
+        WarpMesh warp = mesh.isIdentity() ? null : mesh;
+        pool.invoke(new TileTask(src, dst, width, height, lut, warp, 0, 0, width, height));
+    }
+
+    private final class TileTask extends RecursiveAction {
+        private final int[] src;
+        private final int[] dst;
+        private final int width;
+        private final int height;
+        private final SkinToneLut lut;
+        private final WarpMesh mesh; // null이면 워프 없음
+        private final int x0;
+        private final int y0;
+        private final int x1;
+        private final int y1;
+
+        TileTask(int[] src, int[] dst, int width, int height, SkinToneLut lut, WarpMesh mesh,
+                 int x0, int y0, int x1, int y1) {
+            this.src = src;
+            this.dst = dst;
+            this.width = width;
+            this.height = height;
+            this.lut = lut;
+            this.mesh = mesh;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+        }
+
+        @Override
+        protected void compute() {
+            int tileWidth = x1 - x0;
+            int tileHeight = y1 - y0;
+            if ((long) tileWidth * tileHeight <= tilePixels || (tileWidth < 2 && tileHeight < 2)) {
+                if (mesh == null) {
+                    processColorOnly();
+                } else {
+                    processWarped();
+                }
+                return;
+            }
+            // 긴 쪽을 반으로 나눔
+            if (tileWidth >= tileHeight) {
+                int mid = x0 + tileWidth / 2;
+                invokeAll(new TileTask(src, dst, width, height, lut, mesh, x0, y0, mid, y1),
+                        new TileTask(src, dst, width, height, lut, mesh, mid, y0, x1, y1));
+            } else {
+                int mid = y0 + tileHeight / 2;
+                invokeAll(new TileTask(src, dst, width, height, lut, mesh, x0, y0, x1, mid),
+                        new TileTask(src, dst, width, height, lut, mesh, x0, mid, x1, y1));
+            }
+        }
+
+        private void processColorOnly() {
+            for (int y = y0; y < y1; y++) {
+                int row = y * width;
+                for (int x = x0; x < x1; x++) {
+                    dst[row + x] = lut.apply(src[row + x]);
+                }
+            }
+        }
+
+        private void processWarped() {
+            int cells = mesh.cells();
+            int stride = 2 * (cells + 1); // 한 행의 float 수 (격자점마다 dx, dy)
+            float[] offsets = mesh.offsets();
+            float invWidth = 1f / width;
+            float invHeight = 1f / height;
+            for (int y = y0; y < y1; y++) {
+                float v = (y + 0.5f) * invHeight;
+                float gridY = v * cells;
+                int cellY = Math.min((int) gridY, cells - 1);
+                float fy = gridY - cellY;
+                int row = y * width;
+                for (int x = x0; x < x1; x++) {
+                    float u = (x + 0.5f) * invWidth;
+                    float gridX = u * cells;
+                    int cellX = Math.min((int) gridX, cells - 1);
+                    float fx = gridX - cellX;
+                    int i = cellY * stride + 2 * cellX;
+                    int j = i + stride;
+                    float offsetX = lerp(lerp(offsets[i], offsets[i + 2], fx), lerp(offsets[j], offsets[j + 2], fx), fy);
+                    float offsetY = lerp(lerp(offsets[i + 1], offsets[i + 3], fx), lerp(offsets[j + 1], offsets[j + 3], fx), fy);
+                    float sourceX = (u + offsetX) * width - 0.5f;
+                    float sourceY = (v + offsetY) * height - 0.5f;
+                    dst[row + x] = lut.apply(sample(src, width, height, sourceX, sourceY));
+                }
+            }
+        }
+    }
+
+    // 원본을 쌍선형 보간으로 샘플링 (가중치는 8비트 고정소수점)
+    static int sample(int[] src, int width, int height, float x, float y) {
+        if (x < 0f) {
+            x = 0f;
+        } else if (x > width - 1) {
+            x = width - 1;
+        }
+        if (y < 0f) {
+            y = 0f;
+        } else if (y > height - 1) {
+            y = height - 1;
+        }
+        int left = (int) x;
+        int top = (int) y;
+        int right = Math.min(left + 1, width - 1);
+        int bottom = Math.min(top + 1, height - 1);
+        int weightX = (int) ((x - left) * 256f);
+        int weightY = (int) ((y - top) * 256f);
+        int upper = lerpRgb(src[top * width + left], src[top * width + right], weightX);
+        int lower = lerpRgb(src[bottom * width + left], src[bottom * width + right], weightX);
+        return lerpRgb(upper, lower, weightY);
+    }
+
+    // R과 B를 한 번에, G를 따로 보간 (weight: 0~256)
+    static int lerpRgb(int a, int b, int weight) {
+        int inverse = 256 - weight;
+        int redBlue = ((a & 0xff00ff) * inverse + (b & 0xff00ff) * weight) >>> 8 & 0xff00ff;
+        int green = ((a & 0xff00) * inverse + (b & 0xff00) * weight) >>> 8 & 0xff00;
+        return redBlue | green;
+    }
+
+    private static float lerp(float a, float b, float t) {
+        return a + (b - a) * t;
+    }
+
+    private static BufferedImage toIntRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage converted = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = converted.createGraphics();
+        try {
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return converted;
+    }
+
+    private static int[] pixels(BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+}
@@ -0,0 +1,45 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import com.photoism.photoism_server.domain.correction.domain.entity.Correction;
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+import com.photoism.photoism_server.domain.correction.domain.enums.Skin;
+
+/**
+ * 엔진이 사용하는 보정 값입니다. 세부 보정 값은 -10~10 레벨로 제한하며, 0이면 적용하지 않습니다.
+ */
+public record CorrectionPreset(
+        Skin skin,
+        Shape shape,
+        int eyeSize,      // +: 눈 키우기
+        int eyeAngle,     // +: 눈꼬리 올리기
+        int ala,          // +: 콧볼 줄이기
+        int nasalBridge,  // +: 콧등 좁히기
+        int upper,        // +: 윗입술 도톰하게
+        int lower         // +: 아랫입술 도톰하게
+) {
+    public static final int MAX_LEVEL = 10;
+
+    public static CorrectionPreset from(Correction correction) {
+        return new CorrectionPreset(
+                correction.getSkin(),
+                correction.getShape(),
+                level(correction.getEyeSize()),
+                level(correction.getEyeAngle()),
+                level(correction.getAla()),
+                level(correction.getNasalBridge()),
+                level(correction.getUpper()),
+                level(correction.getLower())
+        );
+    }
+
+    public boolean hasFeatureAdjustments() {
+        return eyeSize != 0 || eyeAngle != 0 || ala != 0 || nasalBridge != 0 || upper != 0 || lower != 0;
+    }
+
+    private static int level(Long value) {
+        if (value == null) {
+            return 0;
+        }
+        return (int) Math.max(-MAX_LEVEL, Math.min(MAX_LEVEL, value));
+    }
+}
@@ -0,0 +1,23 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "correction")
+public class CorrectionProperties {
+    private int parallelism = 0; // fork/join 풀 크기 (0이면 CPU 코어 수)
+    private int tilePixels = 64 * 1024; // 타일 하나의 최대 픽셀 수
+    private int maxConcurrentRenders = 2; // 동시에 디코딩/보정하는 사진 수 (원본 크기만큼 메모리를 씀)
+    private long maxPixels = 24_000_000; // 디코딩 전에 헤더의 가로×세로로 거부하는 기준 (픽셀당 4바이트, 결과 이미지까지 두 벌)
+    private float jpegQuality = 0.92f;
+    private long presetCacheSize = 100_000; // 사용자별 프리셋 캐시 항목 수
+    private Duration presetCacheTtl = Duration.ofMinutes(30); // 무효화 알림을 놓친 노드도 이 시간이 지나면 다시 읽음
+    private String invalidation = "memory"; // memory | redis (redis는 spring.data.redis.* 접속 정보 사용)
+}
@@ -0,0 +1,82 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+
+/**
+ * 얼굴형 프리셋과 세부 보정 값을 WarpMesh로 바꿉니다.
+ * 부스 사진은 얼굴이 화면 가운데에 오도록 촬영하므로, 얼굴 위치는 정규화 좌표의 표준 배치를 사용합니다.
+ */
+public final class CorrectionWarps {
+
+    // 표준 얼굴 배치 (정규화 좌표)
+    private static final double CENTER_X = 0.5;
+    private static final double EYE_Y = 0.40;
+    private static final double EYE_OFFSET_X = 0.09;
+    private static final double EYE_RADIUS = 0.06;
+    private static final double NOSE_BRIDGE_Y = 0.46;
+    private static final double ALA_Y = 0.53;
+    private static final double UPPER_LIP_Y = 0.60;
+    private static final double LOWER_LIP_Y = 0.645;
+    private static final double JAW_Y = 0.62;
+    private static final double JAW_OFFSET_X = 0.17;
+    private static final double CHIN_Y = 0.72;
+    private static final double FOREHEAD_Y = 0.28;
+
+    private CorrectionWarps() {
+    }
+
+    public static WarpMesh forShape(Shape shape, int cells) {
+        WarpMesh mesh = WarpMesh.identity(cells);
+        if (shape == null) {
+            return mesh;
+        }
+        switch (shape) {
+            case DAILY -> slimJaw(mesh, 0.012).shift(CENTER_X, CHIN_Y, 0.10, 0, -0.006);
+            case NATURAL -> slimJaw(mesh, 0.008);
+            case BABY -> slimJaw(mesh, 0.015)
+                    .shift(CENTER_X, CHIN_Y, 0.10, 0, -0.015)
+                    .bulge(CENTER_X, FOREHEAD_Y, 0.18, 0.06);
+            case SLIM -> slimJaw(mesh, 0.025)
+                    .shift(CENTER_X - 0.19, 0.50, 0.10, 0.012, 0)
+                    .shift(CENTER_X + 0.19, 0.50, 0.10, -0.012, 0);
+            case DARK -> slimJaw(mesh, 0.02).shift(CENTER_X, CHIN_Y, 0.10, 0, 0.01);
+        }
+        return mesh;
+    }
+
+    /**
+     * 세부 보정(눈, 코, 입술)을 mesh에 더합니다.
+     */
+    public static WarpMesh addFeatures(WarpMesh mesh, CorrectionPreset preset) {
+        if (preset.eyeSize() != 0) {
+            double strength = 0.02 * preset.eyeSize();
+            mesh.bulge(CENTER_X - EYE_OFFSET_X, EYE_Y, EYE_RADIUS, strength)
+                    .bulge(CENTER_X + EYE_OFFSET_X, EYE_Y, EYE_RADIUS, strength);
+        }
+        if (preset.eyeAngle() != 0) {
+            double angle = Math.toRadians(1.5 * preset.eyeAngle());
+            // 양쪽 눈을 서로 반대 방향으로 돌려 눈꼬리를 함께 올리거나 내림
+            mesh.rotate(CENTER_X - EYE_OFFSET_X, EYE_Y, EYE_RADIUS, angle)
+                    .rotate(CENTER_X + EYE_OFFSET_X, EYE_Y, EYE_RADIUS, -angle);
+        }
+        if (preset.ala() != 0) {
+            mesh.bulge(CENTER_X, ALA_Y, 0.045, -0.02 * preset.ala());
+        }
+        if (preset.nasalBridge() != 0) {
+            mesh.bulge(CENTER_X, NOSE_BRIDGE_Y, 0.05, -0.015 * preset.nasalBridge());
+        }
+        if (preset.upper() != 0) {
+            mesh.bulge(CENTER_X, UPPER_LIP_Y, 0.04, 0.02 * preset.upper());
+        }
+        if (preset.lower() != 0) {
+            mesh.bulge(CENTER_X, LOWER_LIP_Y, 0.04, 0.02 * preset.lower());
+        }
+        return mesh;
+    }
+
+    // 양쪽 턱선을 안쪽으로 당김
+    private static WarpMesh slimJaw(WarpMesh mesh, double amount) {
+        return mesh.shift(CENTER_X - JAW_OFFSET_X, JAW_Y, 0.12, amount, 0)
+                .shift(CENTER_X + JAW_OFFSET_X, JAW_Y, 0.12, -amount, 0);
+    }
+}
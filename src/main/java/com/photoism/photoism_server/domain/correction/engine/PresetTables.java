@@ -0,0 +1,60 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+import com.photoism.photoism_server.domain.correction.domain.enums.Skin;
+
+/**
+ * 피부(Skin) x 얼굴형(Shape) 프리셋 조합에 필요한 톤 테이블과 워프 메시를 기동 시 한 번 계산해 두는 읽기 전용 캐시입니다.
+ * 값이 없는(null) 프리셋은 각 배열의 마지막 칸(인덱스 SKINS.length / SHAPES.length)에 둔 항등 테이블/메시를 사용합니다.
+ * 모든 메시는 freeze()되어 있고 필드는 final이므로 여러 스레드에서 동기화 없이 공유합니다.
+ * 단, 세부 보정(눈, 코, 입술) 값이 있는 요청은 공유 메시를 copy()한 사본에 더하므로 요청마다 메시 하나를 새로 할당합니다.
+ *
+ * 메모리: 톤 테이블 1KB x 6, 메시 (cells+1)^2 x 8바이트 x 6 (프리셋 5개 + 항등 1개, 기본 64칸 기준 약 33KB씩)
+ */
+public final class PresetTables {
+
+    private static final Skin[] SKINS = Skin.values();
+    private static final Shape[] SHAPES = Shape.values();
+
+    private final SkinToneLut[] luts;   // Skin.ordinal(), 마지막 칸은 항등
+    private final WarpMesh[] meshes;    // Shape.ordinal(), 마지막 칸은 항등
+    private final int cells;
+
+    private PresetTables(SkinToneLut[] luts, WarpMesh[] meshes, int cells) {
+        this.luts = luts;
+        this.meshes = meshes;
+        this.cells = cells;
+    }
+
+    public static PresetTables build(int cells) {
+        SkinToneLut[] luts = new SkinToneLut[SKINS.length + 1];
+        for (Skin skin : SKINS) {
+            luts[skin.ordinal()] = SkinToneLut.of(skin);
+        }
+        luts[SKINS.length] = SkinToneLut.identity();
+
+        WarpMesh[] meshes = new WarpMesh[SHAPES.length + 1];
+        for (Shape shape : SHAPES) {
+            meshes[shape.ordinal()] = CorrectionWarps.forShape(shape, cells).freeze();
+        }
+        meshes[SHAPES.length] = WarpMesh.identity(cells).freeze();
+        return new PresetTables(luts, meshes, cells);
+    }
+
+    public SkinToneLut lut(Skin skin) {
+        return luts[skin == null ? SKINS.length : skin.ordinal()];
+    }
+
+    // 공유 메시: 변경하려면 copy()로 사본을 만들어야 함
+    public WarpMesh mesh(Shape shape) {
+        return meshes[shape == null ? SHAPES.length : shape.ordinal()];
+    }
+
+    public int cells() {
+        return cells;
+    }
+
+    public int combinations() {
+        return SKINS.length * SHAPES.length;
+    }
+}
@@ -0,0 +1,82 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import com.photoism.photoism_server.domain.correction.domain.enums.Skin;
+
+/**
+ * 피부 톤 프리셋의 채널별 톤 곡선을 256칸 룩업 테이블로 가진 클래스입니다.
+ * 한 칸에 R, G, B 변환 값을 함께 넣어(0x00RRGGBB) 테이블 하나(1KB)로 세 채널을 처리합니다.
+ * 피부색 범위(YCbCr)에 가까운 픽셀에만 가중치를 두어 적용하므로 배경색은 거의 바뀌지 않습니다.
+ */
+public final class SkinToneLut {
+
+    private static final int FULL = 256;
+
+    private final int[] table;
+
+    private SkinToneLut(int[] table) {
+        this.table = table;
+    }
+
+    public static SkinToneLut of(Skin skin) {
+        if (skin == null) {
+            return identity();
+        }
+        return switch (skin) {
+            // gamma(<1 밝게), lift(어두운 영역 띄우기), 채널 게인
+            case LIGHT -> build(0.85, 0.03, 1.02, 1.02, 1.02);
+            case PINK -> build(0.92, 0.02, 1.06, 0.98, 1.03);
+            case WARM -> build(0.95, 0.01, 1.05, 1.02, 0.93);
+            case CAMEL -> build(1.02, 0.00, 1.04, 0.98, 0.88);
+            case DARK -> build(1.15, 0.00, 1.02, 0.99, 0.96);
+        };
+    }
+
+    public static SkinToneLut identity() {
+        return build(1.0, 0.0, 1.0, 1.0, 1.0);
+    }
+
+    private static SkinToneLut build(double gamma, double lift, double redGain, double greenGain, double blueGain) {
+        int[] table = new int[256];
+        for (int i = 0; i < 256; i++) {
+            double curve = lift + (1.0 - lift) * Math.pow(i / 255.0, gamma);
+            table[i] = channel(curve * redGain) << 16 | channel(curve * greenGain) << 8 | channel(curve * blueGain);
+        }
+        return new SkinToneLut(table);
+    }
+
+    private static int channel(double value) {
+        return (int) Math.max(0, Math.min(255, Math.round(value * 255.0)));
+    }
+
+    /**
+     * 픽셀 하나(0x00RRGGBB)를 변환합니다. 피부색에서 멀수록 원래 색을 유지합니다.
+     */
+    public int apply(int rgb) {
+        int r = rgb >> 16 & 0xff;
+        int g = rgb >> 8 & 0xff;
+        int b = rgb & 0xff;
+        int weight = skinWeight(r, g, b);
+        if (weight == 0) {
+            return rgb & 0xffffff;
+        }
+        int mappedR = table[r] >> 16 & 0xff;
+        int mappedG = table[g] >> 8 & 0xff;
+        int mappedB = table[b] & 0xff;
+        r += (mappedR - r) * weight >> 8;
+        g += (mappedG - g) * weight >> 8;
+        b += (mappedB - b) * weight >> 8;
+        return r << 16 | g << 8 | b;
+    }
+
+    // 0~256: Cb 77~127, Cr 133~173 안쪽이면 256, 경계 밖 8단계에 걸쳐 0으로 줄어듦
+    static int skinWeight(int r, int g, int b) {
+        int cb = 128 + ((-43 * r - 85 * g + 128 * b) >> 8);
+        int cr = 128 + ((128 * r - 107 * g - 21 * b) >> 8);
+        int weight = Math.min(Math.min(ramp(cb - 69), ramp(135 - cb)), Math.min(ramp(cr - 125), ramp(181 - cr)));
+        return Math.max(0, weight);
+    }
+
+    private static int ramp(int distance) {
+        return Math.min(FULL, distance << 5);
+    }
+}
@@ -0,0 +1,152 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+/**
+ * 이미지 변형(워프)을 격자점마다의 원본 좌표 오프셋으로 나타냅니다.
+ * 좌표는 이미지 크기와 무관하도록 0~1로 정규화되어 있으며, 결과 픽셀 (u, v)는 원본의 (u + dx, v + dy)에서 가져옵니다.
+ * 격자점 사이의 오프셋은 쌍선형 보간합니다.
+ * 오프셋은 격자점마다 (dx, dy)를 나란히 둔 float 배열 하나에 담아, 보간할 때 읽는 캐시 라인 수를 줄입니다.
+ * freeze() 이후에는 변경할 수 없으므로 PresetTables처럼 여러 스레드가 공유해도 안전합니다.
+ */
+public final class WarpMesh {
+
+    public static final int DEFAULT_CELLS = 64;
+
+    private final int cells;
+    private final float[] offsets; // [2k] = dx, [2k + 1] = dy
+    private boolean frozen;
+    private boolean identity;
+
+    private WarpMesh(int cells, float[] offsets) {
+        this.cells = cells;
+        this.offsets = offsets;
+    }
+
+    public static WarpMesh identity(int cells) {
+        return new WarpMesh(cells, new float[2 * (cells + 1) * (cells + 1)]);
+    }
+
+    // 변경 가능한 사본 (공유 메시에 세부 보정을 더할 때 사용)
+    public WarpMesh copy() {
+        return new WarpMesh(cells, offsets.clone());
+    }
+
+    public WarpMesh freeze() {
+        identity = computeIdentity();
+        frozen = true;
+        return this;
+    }
+
+    public int cells() {
+        return cells;
+    }
+
+    float[] offsets() {
+        return offsets;
+    }
+
+    public boolean isIdentity() {
+        return frozen ? identity : computeIdentity();
+    }
+
+    private boolean computeIdentity() {
+        for (float offset : offsets) {
+            if (offset != 0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("고정된 메시는 변경할 수 없습니다.");
+        }
+    }
+
+    /**
+     * (cx, cy)를 중심으로 반경 안쪽을 확대(strength > 0) 또는 축소(strength < 0)합니다.
+     */
+    public WarpMesh bulge(double cx, double cy, double radius, double strength) {
+        checkMutable();
+        int stride = cells + 1;
+        for (int j = 0; j <= cells; j++) {
+            double v = (double) j / cells;
+            for (int i = 0; i <= cells; i++) {
+                double u = (double) i / cells;
+                double falloff = falloff(u - cx, v - cy, radius);
+                if (falloff > 0) {
+                    double scale = strength * falloff;
+                    int k = 2 * (j * stride + i);
+                    offsets[k] -= (float) ((u - cx) * scale);
+                    offsets[k + 1] -= (float) ((v - cy) * scale);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * (cx, cy) 주변의 내용을 (shiftX, shiftY)만큼 옮깁니다. (결과에서 내용이 이동하는 방향)
+     */
+    public WarpMesh shift(double cx, double cy, double radius, double shiftX, double shiftY) {
+        checkMutable();
+        int stride = cells + 1;
+        for (int j = 0; j <= cells; j++) {
+            double v = (double) j / cells;
+            for (int i = 0; i <= cells; i++) {
+                double u = (double) i / cells;
+                double falloff = falloff(u - cx, v - cy, radius);
+                if (falloff > 0) {
+                    double weight = falloff * falloff;
+                    int k = 2 * (j * stride + i);
+                    offsets[k] -= (float) (shiftX * weight);
+                    offsets[k + 1] -= (float) (shiftY * weight);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * (cx, cy)를 중심으로 반경 안쪽을 angle(라디안)만큼 회전합니다. 가장자리로 갈수록 회전량이 줄어듭니다.
+     */
+    public WarpMesh rotate(double cx, double cy, double radius, double angle) {
+        checkMutable();
+        int stride = cells + 1;
+        for (int j = 0; j <= cells; j++) {
+            double v = (double) j / cells;
+            for (int i = 0; i <= cells; i++) {
+                double u = (double) i / cells;
+                double falloff = falloff(u - cx, v - cy, radius);
+                if (falloff > 0) {
+                    double theta = -angle * falloff * falloff; // 역방향으로 원본 좌표를 찾음
+                    double cos = Math.cos(theta);
+                    double sin = Math.sin(theta);
+                    double px = u - cx;
+                    double py = v - cy;
+                    int k = 2 * (j * stride + i);
+                    offsets[k] += (float) (px * cos - py * sin - px);
+                    offsets[k + 1] += (float) (px * sin + py * cos - py);
+                }
+            }
+        }
+        return this;
+    }
+
+    public WarpMesh add(WarpMesh other) {
+        checkMutable();
+        if (other.cells != cells) {
+            throw new IllegalArgumentException("격자 크기가 다릅니다.");
+        }
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] += other.offsets[i];
+        }
+        return this;
+    }
+
+    // 중심에서 1, 반경에서 0이 되는 부드러운 감쇠
+    private static double falloff(double offsetX, double offsetY, double radius) {
+        double distance2 = (offsetX * offsetX + offsetY * offsetY) / (radius * radius);
+        return distance2 < 1.0 ? 1.0 - distance2 : 0.0;
+    }
+}
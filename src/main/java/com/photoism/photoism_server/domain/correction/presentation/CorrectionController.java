@@ -0,0 +1,40 @@
+package com.photoism.photoism_server.domain.correction.presentation;
+
+import com.photoism.photoism_server.common.util.AuthenticationUtil;
+import com.photoism.photoism_server.domain.correction.presentation.dto.request.CorrectionRequest;
+import com.photoism.photoism_server.domain.correction.presentation.dto.response.CorrectionResponse;
+import com.photoism.photoism_server.domain.correction.service.CorrectionRenderService;
+import com.photoism.photoism_server.domain.correction.service.CorrectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class CorrectionController {
+    private final CorrectionRenderService correctionRenderService;
+    private final CorrectionService correctionService;
+
+    // 내 보정 프리셋 (저장한 적이 없으면 204)
+    @GetMapping("/corrections/me")
+    public ResponseEntity<CorrectionResponse> myPreset() {
+        return correctionService.findPreset(AuthenticationUtil.getMemberId())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    // 보정값을 내 프리셋으로 저장
+    @PutMapping("/corrections/me")
+    public ResponseEntity<CorrectionResponse> savePreset(@RequestBody CorrectionRequest req) {
+        return ResponseEntity.ok(correctionService.save(AuthenticationUtil.getMemberId(), req));
+    }
+
+    // 보정 설정을 적용한 사진 (JPEG)
+    @GetMapping("/corrections/{correctionId}/images/{imageId}")
+    public ResponseEntity<byte[]> render(@PathVariable Long correctionId, @PathVariable Long imageId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_JPEG)
+                .body(correctionRenderService.render(AuthenticationUtil.getMemberId(), correctionId, imageId));
+    }
+}
@@ -0,0 +1,23 @@
+package com.photoism.photoism_server.domain.correction.presentation.dto.request;
+
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+import com.photoism.photoism_server.domain.correction.domain.enums.Skin;
+
+public record CorrectionRequest(
+        Shape shape,
+
+        Skin skin,
+
+        Long eyeSize,
+
+        Long eyeAngle,
+
+        Long ala,
+
+        Long nasalBridge,
+
+        Long upper,
+
+        Long lower
+) {
+}
@@ -0,0 +1,23 @@
+package com.photoism.photoism_server.domain.correction.presentation.dto.response;
+
+import com.photoism.photoism_server.domain.correction.domain.entity.Correction;
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+import com.photoism.photoism_server.domain.correction.domain.enums.Skin;
+
+public record CorrectionResponse(
+        Long id,
+        Shape shape,
+        Skin skin,
+        Long eyeSize,
+        Long eyeAngle,
+        Long ala,
+        Long nasalBridge,
+        Long upper,
+        Long lower
+) {
+    public static CorrectionResponse from(Correction correction) {
+        return new CorrectionResponse(correction.getId(), correction.getShape(), correction.getSkin(),
+                correction.getEyeSize(), correction.getEyeAngle(), correction.getAla(), correction.getNasalBridge(),
+                correction.getUpper(), correction.getLower());
+    }
+}
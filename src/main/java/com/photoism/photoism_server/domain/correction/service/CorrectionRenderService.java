@@ -0,0 +1,133 @@
+package com.photoism.photoism_server.domain.correction.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.correction.domain.entity.Correction;
+import com.photoism.photoism_server.domain.correction.domain.repository.CorrectionRepository;
+import com.photoism.photoism_server.domain.correction.engine.CorrectionEngine;
+import com.photoism.photoism_server.domain.correction.engine.CorrectionPreset;
+import com.photoism.photoism_server.domain.correction.engine.CorrectionProperties;
+import com.photoism.photoism_server.domain.correction.engine.PresetTables;
+import com.photoism.photoism_server.domain.correction.engine.WarpMesh;
+import com.photoism.photoism_server.domain.image.domain.Image;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageRepository;
+import com.photoism.photoism_server.domain.image.storage.BlobStore;
+import com.photoism.photoism_server.domain.image.storage.JpegEncoder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 사용자의 보정 설정(Correction)을 업로드된 사진(Image)에 적용해 JPEG으로 돌려주는 서비스입니다.
+ * 보정 자체는 CorrectionEngine이 전용 fork/join 풀에서 병렬로 처리하고,
+ * 원본 전체를 메모리에 올리므로 동시에 처리하는 사진 수는 max-concurrent-renders로 제한합니다.
+ */
+@Slf4j
+@Service
+public class CorrectionRenderService {
+
+    private final CorrectionRepository correctionRepository;
+    private final ImageRepository imageRepository;
+    private final BlobStore blobStore;
+    private final CorrectionProperties properties;
+    private final ForkJoinPool pool;
+    private final CorrectionEngine engine;
+    private final Semaphore renderPermits;
+
+    public CorrectionRenderService(CorrectionRepository correctionRepository,
+                                   ImageRepository imageRepository,
+                                   BlobStore blobStore,
+                                   CorrectionProperties properties) {
+        this.correctionRepository = correctionRepository;
+        this.imageRepository = imageRepository;
+        this.blobStore = blobStore;
+        this.properties = properties;
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+
+        long started = System.nanoTime();
+        PresetTables tables = PresetTables.build(WarpMesh.DEFAULT_CELLS);
+        log.info("보정 프리셋 테이블 {}개 조합 준비 ({}ms)",
+                tables.combinations(), (System.nanoTime() - started) / 1_000_000);
+        this.engine = new CorrectionEngine(pool, tables, properties.getTilePixels());
+        this.renderPermits = new Semaphore(properties.getMaxConcurrentRenders());
+    }
+
+    public byte[] render(Long memberId, Long correctionId, Long imageId) {
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        Correction correction = correctionRepository.findById(correctionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        // 보정값과 사진 모두 본인 것만 사용 (소유자가 없는 행도 거부)
+        if (correction.getUser() == null || !Objects.equals(correction.getUser().getId(), memberId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        Image image = imageRepository.findById(imageId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        if (image.getUser() == null || !Objects.equals(image.getUser().getId(), memberId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        if (image.getContentHash() == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+        }
+        return render(blobStore.pathOf(image.getContentHash()), CorrectionPreset.from(correction));
+    }
+
+    private byte[] render(Path source, CorrectionPreset preset) {
+        if (!renderPermits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.STORAGE_BUSY);
+        }
+        try {
+            if (!Files.exists(source)) {
+                throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+            }
+            BufferedImage original = decode(source);
+            return JpegEncoder.encode(engine.apply(original, preset), properties.getJpegQuality());
+        } catch (IOException e) {
+            log.error("보정 이미지 생성 실패: {}", source, e);
+            throw new BusinessException(ErrorCode.UNKNOWN_ERROR);
+        } finally {
+            renderPermits.release();
+        }
+    }
+
+    // 헤더의 가로×세로를 먼저 확인해, 작은 파일이 거대한 해상도로 풀리는 이미지는 픽셀 버퍼를 만들기 전에 거부
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new BusinessException(ErrorCode.THUMBNAIL_UNSUPPORTED);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > properties.getMaxPixels()) {
+                    throw new BusinessException(ErrorCode.IMAGE_TOO_MANY_PIXELS);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
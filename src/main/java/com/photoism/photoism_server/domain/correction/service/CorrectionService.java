@@ -0,0 +1,112 @@
+package com.photoism.photoism_server.domain.correction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.correction.cache.CorrectionInvalidationBus;
+import com.photoism.photoism_server.domain.correction.cache.CorrectionInvalidationBus.CorrectionInvalidation;
+import com.photoism.photoism_server.domain.correction.domain.entity.Correction;
+import com.photoism.photoism_server.domain.correction.domain.repository.CorrectionRepository;
+import com.photoism.photoism_server.domain.correction.engine.CorrectionProperties;
+import com.photoism.photoism_server.domain.correction.presentation.dto.request.CorrectionRequest;
+import com.photoism.photoism_server.domain.correction.presentation.dto.response.CorrectionResponse;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 사용자의 보정 프리셋(가장 최근에 저장한 Correction)을 조회·저장하는 서비스입니다.
+ *
+ * 촬영 세션마다 프리셋을 읽으므로 memberId별로 프로세스 내 캐시에 두고(크기·시간 기준 만료), 프리셋이 없는 사용자도 캐시합니다.
+ * 저장은 DB에 먼저 쓰고 커밋된 뒤 이 노드의 캐시를 새 값으로 바꾸며, 다른 노드에는 무효화 알림을 보냅니다.
+ */
+@Service
+public class CorrectionService {
+
+    private final CorrectionRepository correctionRepository;
+    private final UserRepository userRepository;
+    private final CorrectionInvalidationBus invalidationBus;
+    private final TransactionTemplate loadTransaction;
+    private final Cache<Long, Optional<CorrectionResponse>> presets;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CorrectionService(CorrectionRepository correctionRepository,
+                             UserRepository userRepository,
+                             CorrectionInvalidationBus invalidationBus,
+                             CorrectionProperties properties,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.correctionRepository = correctionRepository;
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.presets = Caffeine.newBuilder()
+                .maximumSize(properties.getPresetCacheSize())
+                .expireAfterWrite(properties.getPresetCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, presets, "correction-preset");
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * 사용자의 현재 프리셋을 돌려줍니다. 캐시에 있으면 트랜잭션도 열지 않고 맵 조회로 끝납니다.
+     * 캐시를 채울 때는 복제 지연으로 예전 값을 캐시하지 않도록 readOnly가 아닌 트랜잭션(primary)에서 읽습니다.
+     */
+    public Optional<CorrectionResponse> findPreset(Long memberId) {
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return presets.get(memberId, id -> loadTransaction.execute(status ->
+                correctionRepository.findFirstByUserIdOrderByCreatedAtDescIdDesc(id).map(CorrectionResponse::from)));
+    }
+
+    /**
+     * 보정값을 새 프리셋으로 저장합니다. 호출한 쪽의 트랜잭션이 있으면 그 트랜잭션이 커밋된 뒤에 캐시에 반영합니다.
+     */
+    @Transactional
+    public CorrectionResponse save(Long memberId, CorrectionRequest req) {
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        Correction correction = correctionRepository.save(Correction.builder()
+                .shape(req.shape())
+                .skin(req.skin())
+                .eyeSize(Objects.requireNonNullElse(req.eyeSize(), 0L))
+                .eyeAngle(Objects.requireNonNullElse(req.eyeAngle(), 0L))
+                .ala(Objects.requireNonNullElse(req.ala(), 0L))
+                .nasalBridge(Objects.requireNonNullElse(req.nasalBridge(), 0L))
+                .upper(Objects.requireNonNullElse(req.upper(), 0L))
+                .lower(Objects.requireNonNullElse(req.lower(), 0L))
+                .user(userRepository.getReferenceById(memberId))
+                .build());
+        CorrectionResponse response = CorrectionResponse.from(correction);
+
+        // 롤백되면 캐시를 건드리지 않음
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                presets.put(memberId, Optional.of(response));
+                invalidationBus.publish(new CorrectionInvalidation(nodeId, memberId));
+            }
+        });
+        return response;
+    }
+
+    private void onInvalidation(CorrectionInvalidation invalidation) {
+        if (!nodeId.equals(invalidation.origin())) {
+            presets.invalidate(invalidation.memberId());
+        }
+    }
+}
@@ -1,23 +1,45 @@
 package com.photoism.photoism_server.domain.image.domain;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import com.photoism.photoism_server.common.config.TableIdGenerators;
+import com.photoism.photoism_server.domain.user.domain.entity.User;
+import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(AuditingEntityListener.class)
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Image {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "image_id")
+    @TableGenerator(name = "image_id", table = TableIdGenerators.TABLE,
+            pkColumnName = TableIdGenerators.PK_COLUMN, valueColumnName = TableIdGenerators.VALUE_COLUMN,
+            pkColumnValue = "image", allocationSize = TableIdGenerators.ALLOCATION_SIZE)
+    private Long id; // 배치 INSERT를 위해 IDENTITY 대신 미리 할당받은 ID 사용
 
     private String url;
+
+    @Column(length = 64)
+    private String contentHash; // 파일 내용의 SHA-256 (hex)
+
+    private Long fileSize;
+
+    private String contentType;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user; // 업로드한 회원 (본인만 포토북에 담을 수 있음, user_id 도입 전 이미지는 null)
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt; // 업로드 직후의 이미지를 고아로 오인해 지우지 않도록 사용
 }
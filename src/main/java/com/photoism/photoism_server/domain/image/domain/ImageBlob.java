@@ -0,0 +1,39 @@
+package com.photoism.photoism_server.domain.image.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(SHA-256)로 저장된 파일 하나와 그 파일을 가리키는 Image/PhotoBook 행의 수입니다.
+ * 행은 ImageBlobRepository의 네이티브 upsert로만 만들어집니다.
+ */
+@Entity
+@Table(name = "image_blob", uniqueConstraints = @UniqueConstraint(name = "uk_image_blob_hash", columnNames = "hash"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageBlob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    private Long fileSize;
+
+    private String contentType;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt; // 마지막으로 참조가 늘거나 줄어든 시각 (GC 유예 기간 기준)
+}
@@ -0,0 +1,79 @@
+package com.photoism.photoism_server.domain.image.domain.repository;
+
+import com.photoism.photoism_server.domain.image.domain.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, Long> {
+
+    Optional<ImageBlob> findByHash(String hash);
+
+    boolean existsByHash(String hash);
+
+    @Query("select b.contentType from ImageBlob b where b.hash = :hash")
+    Optional<String> findContentTypeByHash(@Param("hash") String hash);
+
+    // 참조를 하나 늘림. 행이 없으면 만들고, 있으면 행 잠금을 잡으므로 같은 해시에 대한 GC와 직렬화됨
+    @Modifying
+    @Query(value = "insert into image_blob (hash, file_size, content_type, ref_count, created_at, updated_at) "
+            + "values (:hash, :fileSize, :contentType, 1, now(), now()) "
+            + "on duplicate key update ref_count = ref_count + 1, updated_at = now()", nativeQuery = true)
+    int acquire(@Param("hash") String hash,
+                @Param("fileSize") Long fileSize,
+                @Param("contentType") String contentType);
+
+    // 참조를 count만큼 늘림 (한 세션에서 같은 사진을 여러 장 담을 때 해시당 한 번만 호출)
+    @Modifying
+    @Query(value = "insert into image_blob (hash, file_size, content_type, ref_count, created_at, updated_at) "
+            + "values (:hash, :fileSize, :contentType, :count, now(), now()) "
+            + "on duplicate key update ref_count = ref_count + :count, updated_at = now()", nativeQuery = true)
+    int acquire(@Param("hash") String hash,
+                @Param("fileSize") Long fileSize,
+                @Param("contentType") String contentType,
+                @Param("count") int count);
+
+    // 참조 없이 행만 등록 (파일은 저장됐지만 참조 행을 만들지 못한 경우 GC가 수거하도록)
+    @Modifying
+    @Query(value = "insert into image_blob (hash, file_size, content_type, ref_count, created_at, updated_at) "
+            + "values (:hash, :fileSize, :contentType, 0, now(), now()) "
+            + "on duplicate key update updated_at = now()", nativeQuery = true)
+    int register(@Param("hash") String hash,
+                 @Param("fileSize") Long fileSize,
+                 @Param("contentType") String contentType);
+
+    @Modifying
+    @Query("update ImageBlob b set b.refCount = b.refCount - :count, b.updatedAt = CURRENT_TIMESTAMP "
+            + "where b.hash = :hash and b.refCount >= :count")
+    int release(@Param("hash") String hash, @Param("count") int count);
+
+    // 삭제된 행들이 가리키던 blob의 참조를 해시별로 모아 줄임
+    default void releaseAll(Collection<String> hashes) {
+        hashes.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .forEach((hash, count) -> release(hash, count.intValue()));
+    }
+
+    // 참조가 없고 유예 기간이 지난 blob ID를 id 순으로 한 페이지씩 조회 (keyset)
+    @Query("select b.id from ImageBlob b where b.refCount <= 0 and b.updatedAt < :before and b.id > :lastId order by b.id")
+    List<Long> findUnreferencedIds(@Param("lastId") Long lastId,
+                                   @Param("before") LocalDateTime before,
+                                   Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from ImageBlob b where b.id = :id")
+    Optional<ImageBlob> findByIdForUpdate(@Param("id") Long id);
+}
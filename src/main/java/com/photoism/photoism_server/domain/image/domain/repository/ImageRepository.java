@@ -0,0 +1,26 @@
+package com.photoism.photoism_server.domain.image.domain.repository;
+
+import com.photoism.photoism_server.domain.image.domain.Image;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageRepository extends JpaRepository<Image, Long> {
+
+    // 어떤 포토북에서도 참조하지 않는 이미지 ID를 id 순으로 한 페이지씩 조회 (keyset)
+    @Query("select i.id from Image i "
+            + "where i.id > :lastId and i.createdAt < :createdBefore "
+            + "and not exists (select 1 from PhotoBook p where p.photoUrl = i.url) "
+            + "order by i.id")
+    List<Long> findOrphanIds(@Param("lastId") Long lastId,
+                             @Param("createdBefore") LocalDateTime createdBefore,
+                             Pageable pageable);
+
+    @Query("select i.contentHash from Image i where i.id in :ids")
+    List<String> findContentHashesByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,71 @@
+package com.photoism.photoism_server.domain.image.job;
+
+import com.photoism.photoism_server.common.job.BatchPager;
+import com.photoism.photoism_server.common.job.MaintenanceJobProperties;
+import com.photoism.photoism_server.domain.image.domain.ImageBlob;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageBlobRepository;
+import com.photoism.photoism_server.domain.image.service.BlobDeletedEvent;
+import com.photoism.photoism_server.domain.image.storage.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참조가 0인 blob 파일과 행을 지웁니다.
+ * blob 행을 잠근 상태에서 참조 수를 다시 확인하고 지우므로, 같은 해시를 업로드하는 요청과 겹쳐도 참조 중인 파일은 지워지지 않습니다.
+ * 지운 blob마다 BlobDeletedEvent를 발행해 썸네일 캐시에서도 지우게 합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class BlobGarbageCollectionJob extends QuartzJobBean {
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final BlobStore blobStore;
+    private final MaintenanceJobProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getBlobGcGracePeriod());
+        int batchSize = properties.getBatchSize();
+        try {
+            long scanned = BatchPager.run(transactionTemplate, batchSize, properties.getPauseBetweenBatches(),
+                    lastId -> imageBlobRepository.findUnreferencedIds(lastId, before, PageRequest.of(0, batchSize)),
+                    Long::longValue,
+                    this::collect);
+            log.info("blob GC: 후보 {}건 확인", scanned);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collect(List<Long> ids) {
+        for (Long id : ids) {
+            imageBlobRepository.findByIdForUpdate(id)
+                    .filter(blob -> blob.getRefCount() <= 0)
+                    .ifPresent(this::delete);
+        }
+    }
+
+    private void delete(ImageBlob blob) {
+        try {
+            blobStore.delete(blob.getHash());
+            imageBlobRepository.delete(blob);
+            eventPublisher.publishEvent(new BlobDeletedEvent(blob.getHash()));
+        } catch (IOException e) {
+            // 파일을 못 지우면 행을 남겨 다음 실행 때 다시 시도
+            log.warn("blob 파일 삭제 실패: {}", blob.getHash(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.photoism.photoism_server.domain.image.job;
+
+import com.photoism.photoism_server.common.job.BatchPager;
+import com.photoism.photoism_server.common.job.MaintenanceJobProperties;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageBlobRepository;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 어떤 포토북에서도 참조하지 않는 이미지 행을 지웁니다.
+ * 업로드 직후 아직 포토북에 연결되지 않은 이미지는 유예 기간(orphan-image-grace-period) 동안 남겨 둡니다.
+ * 지운 이미지가 가리키던 blob의 참조도 함께 줄이며, 파일 자체는 BlobGarbageCollectionJob이 지웁니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class OrphanImageCleanupJob extends QuartzJobBean {
+
+    private final ImageRepository imageRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final MaintenanceJobProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(properties.getOrphanImageGracePeriod());
+        int batchSize = properties.getBatchSize();
+        try {
+            long deleted = BatchPager.run(transactionTemplate, batchSize, properties.getPauseBetweenBatches(),
+                    lastId -> imageRepository.findOrphanIds(lastId, createdBefore, PageRequest.of(0, batchSize)),
+                    Long::longValue,
+                    ids -> {
+                        imageBlobRepository.releaseAll(imageRepository.findContentHashesByIdIn(ids));
+                        imageRepository.deleteAllByIdInBatch(ids);
+                    });
+            log.info("참조되지 않는 이미지 {}건 삭제", deleted);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.photoism.photoism_server.domain.image.presentation;
+
+import com.photoism.photoism_server.domain.image.service.ImageDownloadService;
+import com.photoism.photoism_server.domain.image.thumbnail.ThumbnailService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class ImageFileController {
+    private final ImageDownloadService imageDownloadService;
+    private final ThumbnailService thumbnailService;
+
+    // Image.url / PhotoBook.photoUrl 이 가리키는 파일 (HEAD, Range, If-None-Match 지원)
+    @GetMapping("/files/{hash}")
+    public void download(@PathVariable String hash,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        imageDownloadService.serve(hash, request, response);
+    }
+
+    // 원본과 마찬가지로 내용이 바뀌지 않으므로 ETag와 긴 캐시를 사용
+    @GetMapping("/files/{hash}/thumbnails/{width}")
+    public ResponseEntity<byte[]> thumbnail(@PathVariable String hash,
+                                            @PathVariable int width,
+                                            WebRequest webRequest) {
+        String etag = "\"" + hash + "-w" + width + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_JPEG)
+                .eTag(etag)
+                .header(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable")
+                .body(thumbnailService.get(hash, width));
+    }
+}
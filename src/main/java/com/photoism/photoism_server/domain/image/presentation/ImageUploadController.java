@@ -0,0 +1,63 @@
+package com.photoism.photoism_server.domain.image.presentation;
+
+import com.photoism.photoism_server.common.util.AuthenticationUtil;
+import com.photoism.photoism_server.domain.image.presentation.dto.request.UploadCreateRequest;
+import com.photoism.photoism_server.domain.image.presentation.dto.response.ImageResponse;
+import com.photoism.photoism_server.domain.image.presentation.dto.response.UploadSessionResponse;
+import com.photoism.photoism_server.domain.image.service.ImageUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 청크 업로드 API
+ * 1. POST /images/uploads 로 세션 생성
+ * 2. PATCH /images/uploads/{id} 에 Upload-Offset 헤더와 함께 바이트를 전송 (여러 번 나눠 보낼 수 있음)
+ * 3. 연결이 끊기면 GET(HEAD) /images/uploads/{id} 로 offset을 확인하고 그 위치부터 다시 전송
+ * 4. POST /images/uploads/{id}/complete 로 확정
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/images/uploads")
+public class ImageUploadController {
+
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+
+    private final ImageUploadService imageUploadService;
+
+    @PostMapping
+    public ResponseEntity<UploadSessionResponse> create(@RequestBody UploadCreateRequest req) {
+        return ResponseEntity.ok(imageUploadService.create(AuthenticationUtil.getMemberId(), req));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> status(@PathVariable String uploadId) {
+        UploadSessionResponse res = imageUploadService.status(AuthenticationUtil.getMemberId(), uploadId);
+        return ResponseEntity.ok().header(UPLOAD_OFFSET, String.valueOf(res.offset())).body(res);
+    }
+
+    // 본문을 스트림으로 그대로 읽으므로 @RequestBody를 쓰지 않음
+    @PatchMapping(path = "/{uploadId}",
+            consumes = {MediaType.APPLICATION_OCTET_STREAM_VALUE, "application/offset+octet-stream"})
+    public ResponseEntity<UploadSessionResponse> append(@PathVariable String uploadId,
+                                                        @RequestHeader(UPLOAD_OFFSET) long offset,
+                                                        HttpServletRequest request) throws IOException {
+        UploadSessionResponse res = imageUploadService.append(AuthenticationUtil.getMemberId(), uploadId, offset, request.getInputStream());
+        return ResponseEntity.ok().header(UPLOAD_OFFSET, String.valueOf(res.offset())).body(res);
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ImageResponse> complete(@PathVariable String uploadId) {
+        return ResponseEntity.ok(imageUploadService.complete(AuthenticationUtil.getMemberId(), uploadId));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> cancel(@PathVariable String uploadId) {
+        imageUploadService.cancel(AuthenticationUtil.getMemberId(), uploadId);
+        return ResponseEntity.noContent().build();
+    }
+}
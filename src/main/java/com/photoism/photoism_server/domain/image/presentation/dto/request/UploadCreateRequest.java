@@ -0,0 +1,8 @@
+package com.photoism.photoism_server.domain.image.presentation.dto.request;
+
+public record UploadCreateRequest(
+        long size,           // 전체 파일 크기(바이트)
+        String contentType,  // image/jpeg 등
+        String sha256        // 선택: 파일의 SHA-256 (hex), 완료 시 검증
+) {
+}
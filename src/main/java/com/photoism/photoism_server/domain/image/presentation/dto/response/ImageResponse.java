@@ -0,0 +1,14 @@
+package com.photoism.photoism_server.domain.image.presentation.dto.response;
+
+import com.photoism.photoism_server.domain.image.domain.Image;
+
+public record ImageResponse(
+        Long id,
+        String url,
+        String sha256,
+        long size
+) {
+    public static ImageResponse from(Image image) {
+        return new ImageResponse(image.getId(), image.getUrl(), image.getContentHash(), image.getFileSize());
+    }
+}
@@ -0,0 +1,9 @@
+package com.photoism.photoism_server.domain.image.presentation.dto.response;
+
+public record UploadSessionResponse(
+        String uploadId,
+        long offset,  // 서버가 받은 바이트 수 (다음 청크의 시작 위치)
+        long size,
+        ImageResponse image  // 같은 내용의 사진이 이미 있어 전송 없이 완료된 경우에만 채워짐
+) {
+}
@@ -0,0 +1,9 @@
+package com.photoism.photoism_server.domain.image.service;
+
+/**
+ * 참조가 없는 blob 파일과 행이 GC로 삭제된 뒤 발행되는 이벤트입니다.
+ */
+public record BlobDeletedEvent(
+        String contentHash
+) {
+}
@@ -0,0 +1,192 @@
+package com.photoism.photoism_server.domain.image.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageBlobRepository;
+import com.photoism.photoism_server.domain.image.storage.BlobStore;
+import com.photoism.photoism_server.domain.image.storage.ImageStorageProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * blob 파일을 내려주는 서비스입니다.
+ * 본문은 힙을 거치지 않도록 Tomcat sendfile(커널 zero-copy)로 넘기고, 지원하지 않는 환경에서는 FileChannel.transferTo를 사용합니다.
+ * 해시가 곧 URL이자 strong ETag이므로 If-None-Match 확인은 DB나 디스크를 보지 않고 바로 304로 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDownloadService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final BlobStore blobStore;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageStorageProperties properties;
+
+    public void serve(String hash, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!SHA256_HEX.matcher(hash).matches()) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+        }
+        String etag = "\"" + hash + "\"";
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), hash)) {
+            setCacheHeaders(response, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        Path path = blobStore.pathOf(hash);
+        long size;
+        try {
+            size = Files.size(path);
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+        }
+
+        setCacheHeaders(response, etag); // 404 응답이 캐시되지 않도록 파일을 확인한 뒤에 설정
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(imageBlobRepository.findContentTypeByHash(hash)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE));
+
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            long[] bounds = parseRange(range, size);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (length >= properties.getSendfileMinSize().toBytes()
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문을 쓰지 않고 돌아가면 Tomcat이 소켓으로 파일을 직접 보냄
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(path, start, length, response);
+    }
+
+    private void setCacheHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                "public, max-age=" + properties.getCacheMaxAge().toSeconds() + ", immutable");
+    }
+
+    private static void transfer(Path path, long start, long length, HttpServletResponse response) throws IOException {
+        try (FileChannel file = FileChannel.open(path)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (IOException e) {
+            // 대부분 클라이언트가 연결을 끊은 경우
+            log.debug("파일 전송 중단: {}", path, e);
+        }
+    }
+
+    /**
+     * 단일 범위(bytes=a-b, bytes=a-, bytes=-n)만 지원합니다.
+     * @return 만족할 수 없는 범위면 null, 지원하지 않는 형식(다중 범위 등)이면 빈 배열(전체 응답), 그 외 [start, end]
+     */
+    private static long[] parseRange(String range, long size) {
+        Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+        if (!matcher.matches()) {
+            return new long[0];
+        }
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        try {
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return new long[0];
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix == 0 || size == 0) {
+                    return null;
+                }
+                return new long[]{Math.max(0, size - suffix), size - 1};
+            }
+            long start = Long.parseLong(first);
+            if (start >= size) {
+                return null;
+            }
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (end < start) {
+                return new long[0];
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    // If-None-Match는 약한 비교: W/ 접두사를 무시하고 비교
+    private static boolean matchesAny(String ifNoneMatch, String hash) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() == hash.length() + 2 && tag.regionMatches(1, hash, 0, hash.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Range가 없거나 현재 ETag와 같을 때만 Range를 적용 (strong 비교)
+    private static boolean ifRangeMatches(String ifRange, String etag) {
+        return ifRange == null || ifRange.trim().equals(etag);
+    }
+}
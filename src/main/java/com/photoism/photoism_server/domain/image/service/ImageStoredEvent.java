@@ -0,0 +1,10 @@
+package com.photoism.photoism_server.domain.image.service;
+
+/**
+ * 업로드가 완료되어 blob이 저장된 뒤 발행되는 이벤트입니다.
+ */
+public record ImageStoredEvent(
+        Long imageId,
+        String contentHash
+) {
+}
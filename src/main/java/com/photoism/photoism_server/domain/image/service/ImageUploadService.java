@@ -0,0 +1,320 @@
+package com.photoism.photoism_server.domain.image.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.image.domain.Image;
+import com.photoism.photoism_server.domain.image.domain.ImageBlob;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageBlobRepository;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageRepository;
+import com.photoism.photoism_server.domain.image.presentation.dto.request.UploadCreateRequest;
+import com.photoism.photoism_server.domain.image.presentation.dto.response.ImageResponse;
+import com.photoism.photoism_server.domain.image.presentation.dto.response.UploadSessionResponse;
+import com.photoism.photoism_server.domain.image.storage.BlobStore;
+import com.photoism.photoism_server.domain.image.storage.DirectBufferPool;
+import com.photoism.photoism_server.domain.image.storage.ImageStorageProperties;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 사진을 청크 단위로 받아 디스크에 바로 쓰는 업로드 서비스입니다.
+ * 요청 본문은 풀에서 빌린 direct 버퍼를 거쳐 FileChannel로 쓰이고 동시에 SHA-256이 계산되므로,
+ * 파일 크기와 상관없이 힙 사용량이 일정합니다. 연결이 끊기면 서버가 받은 offset부터 이어서 보낼 수 있습니다.
+ * 완료된 파일은 BlobStore에 내용 해시로 저장되어 같은 사진은 한 번만 보관되며,
+ * 업로드 전에 해시를 알려주면 이미 있는 사진은 전송 없이 바로 이미지가 만들어집니다.
+ * 이미지에는 업로드한 회원이 기록되며, 업로드 세션도 만든 회원만 이어 보내거나 확정할 수 있습니다.
+ *
+ * 업로드 세션은 노드 메모리에 있으므로 여러 노드로 운영할 때는 uploadId 기준으로 같은 노드에 라우팅해야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageUploadService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-fA-F]{64}");
+
+    private final ImageRepository imageRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final BlobStore blobStore;
+    private final ImageStorageProperties properties;
+    private final DirectBufferPool bufferPool;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserRepository userRepository;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void createDirectories() throws IOException {
+        Files.createDirectories(properties.uploadDir());
+    }
+
+    public UploadSessionResponse create(Long memberId, UploadCreateRequest req) {
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (req.size() <= 0 || (req.sha256() != null && !SHA256_HEX.matcher(req.sha256()).matches())) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST);
+        }
+        if (req.size() > properties.getMaxFileSize().toBytes()) {
+            throw new BusinessException(ErrorCode.UPLOAD_TOO_LARGE);
+        }
+        if (req.sha256() != null) {
+            ImageResponse existing = reuseExistingBlob(memberId, req.sha256().toLowerCase(), req.contentType());
+            if (existing != null) {
+                return new UploadSessionResponse(null, existing.size(), existing.size(), existing);
+            }
+        }
+        if (sessions.size() >= properties.getMaxSessions()) {
+            throw new BusinessException(ErrorCode.STORAGE_BUSY);
+        }
+
+        String id = UUID.randomUUID().toString().replace("-", "");
+        Path tempFile = properties.uploadDir().resolve(id + ".part");
+        try {
+            Files.createFile(tempFile);
+        } catch (IOException e) {
+            log.error("업로드 임시 파일 생성 실패: {}", tempFile, e);
+            throw new BusinessException(ErrorCode.UPLOAD_FAILED);
+        }
+        UploadSession session = new UploadSession(id, memberId, req.size(), req.contentType(), req.sha256(), tempFile);
+        sessions.put(id, session);
+        return toResponse(session);
+    }
+
+    public UploadSessionResponse status(Long memberId, String uploadId) {
+        UploadSession session = get(memberId, uploadId);
+        session.touch();
+        return toResponse(session);
+    }
+
+    /**
+     * offset 위치부터 body를 끝까지 읽어 임시 파일에 씁니다.
+     * 중간에 연결이 끊겨도 그때까지 쓴 바이트는 유지되며, 클라이언트는 status로 offset을 확인하고 이어서 보냅니다.
+     */
+    public UploadSessionResponse append(Long memberId, String uploadId, long offset, InputStream body) {
+        UploadSession session = get(memberId, uploadId);
+        if (!session.getLock().tryLock()) {
+            throw new BusinessException(ErrorCode.UPLOAD_IN_PROGRESS);
+        }
+        try {
+            if (offset != session.getOffset()) {
+                throw new BusinessException(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+            }
+            writeChunk(session, body);
+            return toResponse(session);
+        } finally {
+            session.getLock().unlock();
+        }
+    }
+
+    private void writeChunk(UploadSession session, InputStream body) {
+        ByteBuffer buffer = bufferPool.acquire();
+        try (FileChannel file = FileChannel.open(session.getTempFile(), StandardOpenOption.WRITE);
+             ReadableByteChannel in = Channels.newChannel(body)) {
+            while (true) {
+                long remaining = session.getSize() - session.getOffset();
+                buffer.clear();
+                // 남은 크기만큼만 읽고, 다 받았는데도 데이터가 더 오면 1바이트로 초과 여부만 확인
+                buffer.limit((int) Math.max(1, Math.min(buffer.capacity(), remaining)));
+                int read = in.read(buffer);
+                if (read < 0) {
+                    return;
+                }
+                if (remaining == 0 && read > 0) {
+                    throw new BusinessException(ErrorCode.UPLOAD_TOO_LARGE);
+                }
+                buffer.flip();
+                long position = session.getOffset();
+                while (buffer.hasRemaining()) {
+                    position += file.write(buffer, position);
+                }
+                buffer.flip(); // 방금 쓴 구간을 다시 읽어 해시에 반영
+                session.advance(buffer);
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 끊김 등: 이미 쓴 데이터는 offset에 반영되어 있으므로 이어 받기 가능
+            log.info("업로드 청크 중단: uploadId={}, offset={}", session.getId(), session.getOffset());
+            throw new BusinessException(ErrorCode.UPLOAD_FAILED);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * 모든 바이트를 받은 업로드를 확정합니다.
+     * 해시를 검증하고 파일을 디스크에 동기화한 뒤, blob 참조를 늘리고 파일을 blob 위치로 옮기고 이미지 행을 만드는 것을
+     * 한 트랜잭션에서 처리합니다. 같은 내용의 blob이 이미 있으면 임시 파일은 버립니다.
+     * 파일을 옮기기 전에 실패하면 세션과 임시 파일이 그대로 남아 complete를 다시 호출할 수 있고,
+     * 옮긴 뒤에 실패하면 세션을 버립니다. (임시 파일이 없으므로, 해시를 알려 다시 업로드하면 남은 blob을 바로 재사용)
+     */
+    public ImageResponse complete(Long memberId, String uploadId) {
+        UploadSession session = get(memberId, uploadId);
+        if (!session.getLock().tryLock()) {
+            throw new BusinessException(ErrorCode.UPLOAD_IN_PROGRESS);
+        }
+        try {
+            if (!session.isComplete()) {
+                throw new BusinessException(ErrorCode.UPLOAD_INCOMPLETE);
+            }
+            String sha256 = session.sha256Hex();
+            if (session.getExpectedSha256() != null && !session.getExpectedSha256().equalsIgnoreCase(sha256)) {
+                discard(session);
+                throw new BusinessException(ErrorCode.UPLOAD_HASH_MISMATCH);
+            }
+            syncToDisk(session);
+
+            AtomicBoolean stored = new AtomicBoolean();
+            Image image;
+            try {
+                image = transactionTemplate.execute(status -> {
+                    // 참조를 먼저 늘려 blob 행을 잠근 뒤 파일을 옮김 (같은 해시의 GC가 그 사이에 파일을 지우지 못함)
+                    imageBlobRepository.acquire(sha256, session.getSize(), session.getContentType());
+                    stored.set(storeBlob(session, sha256));
+                    return imageRepository.save(newImage(session.getMemberId(), sha256, session.getSize(), session.getContentType()));
+                });
+            } catch (RuntimeException e) {
+                if (stored.get()) {
+                    discard(session);
+                    try {
+                        // 파일은 옮겨졌지만 참조는 롤백됨: 참조 0인 행으로 남겨 GC가 수거하게 함
+                        transactionTemplate.executeWithoutResult(status ->
+                                imageBlobRepository.register(sha256, session.getSize(), session.getContentType()));
+                    } catch (RuntimeException registerFailure) {
+                        log.warn("참조 없는 blob 행 등록 실패: {}", sha256, registerFailure);
+                        e.addSuppressed(registerFailure);
+                    }
+                }
+                throw e;
+            }
+            discard(session);
+            eventPublisher.publishEvent(new ImageStoredEvent(image.getId(), sha256));
+            return ImageResponse.from(image);
+        } finally {
+            session.getLock().unlock();
+        }
+    }
+
+    public void cancel(Long memberId, String uploadId) {
+        UploadSession session = get(memberId, uploadId);
+        if (!session.getLock().tryLock()) {
+            throw new BusinessException(ErrorCode.UPLOAD_IN_PROGRESS);
+        }
+        try {
+            discard(session);
+        } finally {
+            session.getLock().unlock();
+        }
+    }
+
+    // 오래 이어지지 않은 업로드 세션과 임시 파일 정리
+    @Scheduled(fixedDelayString = "${image-storage.session-sweep-interval-ms:60000}")
+    public void sweepExpiredSessions() {
+        long expireBefore = System.currentTimeMillis() - properties.getSessionTtl().toMillis();
+        for (UploadSession session : sessions.values()) {
+            if (session.getLastAccessMillis() < expireBefore && session.getLock().tryLock()) {
+                try {
+                    discard(session);
+                } finally {
+                    session.getLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * 같은 내용의 blob이 이미 있으면 전송 없이 그 blob을 가리키는 이미지를 만듭니다.
+     * blob 행은 있지만 파일이 없으면(GC 진행 중 등) null을 반환해 일반 업로드로 진행합니다.
+     */
+    private ImageResponse reuseExistingBlob(Long memberId, String sha256, String contentType) {
+        if (!imageBlobRepository.existsByHash(sha256)) {
+            return null;
+        }
+        return transactionTemplate.execute(status -> {
+            imageBlobRepository.acquire(sha256, null, contentType);
+            ImageBlob blob = imageBlobRepository.findByHash(sha256).orElse(null);
+            if (blob == null || !blobStore.exists(sha256)) {
+                status.setRollbackOnly();
+                return null;
+            }
+            String type = blob.getContentType() != null ? blob.getContentType() : contentType;
+            return ImageResponse.from(imageRepository.save(newImage(memberId, sha256, blob.getFileSize(), type)));
+        });
+    }
+
+    private Image newImage(Long memberId, String sha256, Long fileSize, String contentType) {
+        return Image.builder()
+                .user(userRepository.getReferenceById(memberId))
+                .url(properties.getPublicBaseUrl() + "/" + sha256)
+                .contentHash(sha256)
+                .fileSize(fileSize)
+                .contentType(contentType)
+                .build();
+    }
+
+    private void syncToDisk(UploadSession session) {
+        try (FileChannel file = FileChannel.open(session.getTempFile(), StandardOpenOption.WRITE)) {
+            file.truncate(session.getSize()); // 실패한 쓰기가 offset 뒤에 남긴 바이트 제거
+            file.force(true);
+        } catch (IOException e) {
+            log.error("업로드 파일 동기화 실패: uploadId={}", session.getId(), e);
+            throw new BusinessException(ErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    private boolean storeBlob(UploadSession session, String sha256) {
+        try {
+            return blobStore.storeIfAbsent(session.getTempFile(), sha256);
+        } catch (IOException e) {
+            log.error("blob 저장 실패: uploadId={}", session.getId(), e);
+            throw new BusinessException(ErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    private void discard(UploadSession session) {
+        sessions.remove(session.getId());
+        deleteQuietly(session.getTempFile());
+    }
+
+    // 다른 회원의 세션은 존재 여부도 드러나지 않도록 없는 세션과 같이 처리
+    private UploadSession get(Long memberId, String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null || !Objects.equals(session.getMemberId(), memberId)) {
+            throw new BusinessException(ErrorCode.UPLOAD_NOT_FOUND);
+        }
+        return session;
+    }
+
+    private static UploadSessionResponse toResponse(UploadSession session) {
+        return new UploadSessionResponse(session.getId(), session.getOffset(), session.getSize(), null);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", path, e);
+        }
+    }
+}
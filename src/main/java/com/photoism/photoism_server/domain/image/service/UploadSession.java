@@ -0,0 +1,75 @@
+package com.photoism.photoism_server.domain.image.service;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 진행 중인 청크 업로드 하나의 상태입니다.
+ * offset까지의 바이트는 임시 파일에 쓰였고 digest에도 반영되어 있으므로, 연결이 끊겨도 offset부터 이어 받으면 됩니다.
+ */
+@Getter
+class UploadSession {
+
+    private final String id;
+    private final Long memberId; // 세션을 만든 회원 (다른 회원은 이어 보내거나 확정할 수 없음)
+    private final long size;
+    private final String contentType;
+    private final String expectedSha256; // 클라이언트가 알려준 해시 (없으면 null)
+    private final Path tempFile;
+
+    private final MessageDigest digest;
+    private final ReentrantLock lock = new ReentrantLock(); // 같은 세션에 청크가 동시에 들어오는 것을 막음
+
+    private volatile long offset;
+    private String sha256; // 완료 후 계산된 해시 (확정을 다시 시도해도 다시 계산하지 않음)
+    private volatile long lastAccessMillis;
+
+    UploadSession(String id, Long memberId, long size, String contentType, String expectedSha256, Path tempFile) {
+        this.id = id;
+        this.memberId = memberId;
+        this.size = size;
+        this.contentType = contentType;
+        this.expectedSha256 = expectedSha256;
+        this.tempFile = tempFile;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        touch();
+    }
+
+    // 파일에 쓴 바이트를 해시에 반영하고 offset을 옮김 (buffer의 position~limit)
+    void advance(ByteBuffer written) {
+        int length = written.remaining();
+        digest.update(written);
+        offset += length;
+        touch();
+    }
+
+    // digest()는 상태를 초기화하므로 복제본에서 계산해, 호출해도 지금까지 받은 바이트의 해시 상태가 남아 있게 함
+    String sha256Hex() {
+        if (sha256 == null) {
+            try {
+                sha256 = HexFormat.of().formatHex(((MessageDigest) digest.clone()).digest());
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return sha256;
+    }
+
+    void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    boolean isComplete() {
+        return offset == size;
+    }
+}
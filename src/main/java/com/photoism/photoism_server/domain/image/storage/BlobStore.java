@@ -0,0 +1,56 @@
+package com.photoism.photoism_server.domain.image.storage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 파일을 내용의 SHA-256으로 저장하는 디스크 저장소입니다.
+ * 한 디렉터리에 파일이 몰리지 않도록 해시 앞 4글자로 두 단계 디렉터리를 나눕니다. (blobs/ab/cd/abcd...)
+ * 같은 내용은 한 번만 저장되며, 참조 수 관리는 ImageBlobRepository가 담당합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobStore {
+
+    private final ImageStorageProperties properties;
+
+    @PostConstruct
+    void createDirectory() throws IOException {
+        Files.createDirectories(properties.blobDir());
+    }
+
+    public Path pathOf(String hash) {
+        return properties.blobDir()
+                .resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4))
+                .resolve(hash);
+    }
+
+    public boolean exists(String hash) {
+        return Files.exists(pathOf(hash));
+    }
+
+    /**
+     * 임시 파일을 blob 위치로 원자적으로 옮깁니다. 이미 같은 해시의 파일이 있으면 옮기지 않고 false를 반환합니다.
+     * (같은 해시를 동시에 저장해도 내용이 같으므로 어느 쪽이 남아도 무방)
+     */
+    public boolean storeIfAbsent(Path source, String hash) throws IOException {
+        Path target = pathOf(hash);
+        if (Files.exists(target)) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    public void delete(String hash) throws IOException {
+        Files.deleteIfExists(pathOf(hash));
+    }
+}
@@ -0,0 +1,50 @@
+package com.photoism.photoism_server.domain.image.storage;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 입출력에 쓰는 direct 버퍼를 미리 만들어 두고 빌려주는 풀입니다.
+ * 버퍼 개수가 곧 동시에 디스크 입출력을 하는 요청 수의 상한이 되므로, 파일 크기나 요청 수와 상관없이
+ * 입출력 버퍼 메모리는 buffer-size * max-concurrent-writes로 고정됩니다.
+ */
+@Component
+public class DirectBufferPool {
+
+    private final BlockingQueue<ByteBuffer> buffers;
+    private final long acquireTimeoutMillis;
+
+    public DirectBufferPool(ImageStorageProperties properties) {
+        int count = properties.getMaxConcurrentWrites();
+        int size = (int) properties.getBufferSize().toBytes();
+        this.buffers = new ArrayBlockingQueue<>(count);
+        for (int i = 0; i < count; i++) {
+            buffers.add(ByteBuffer.allocateDirect(size));
+        }
+        this.acquireTimeoutMillis = properties.getBufferAcquireTimeout().toMillis();
+    }
+
+    // 버퍼가 모두 사용 중이면 잠시 기다리고, 그래도 없으면 503으로 거절
+    public ByteBuffer acquire() {
+        try {
+            ByteBuffer buffer = buffers.poll(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (buffer == null) {
+                throw new BusinessException(ErrorCode.STORAGE_BUSY);
+            }
+            return buffer.clear();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.STORAGE_BUSY);
+        }
+    }
+
+    public void release(ByteBuffer buffer) {
+        buffers.offer(buffer);
+    }
+}
@@ -0,0 +1,39 @@
+package com.photoism.photoism_server.domain.image.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "image-storage")
+public class ImageStorageProperties {
+    private Path root = Path.of("data"); // 업로드 임시 파일과 blob 파일이 같은 파일시스템에 있어야 원자적 이동이 가능
+    private String publicBaseUrl = "/files"; // Image.url 접두사
+    private DataSize maxFileSize = DataSize.ofMegabytes(50);
+    private DataSize bufferSize = DataSize.ofKilobytes(64); // 요청 하나가 쓰는 direct 버퍼 크기
+    private int maxConcurrentWrites = 32; // 동시에 디스크에 쓰는 요청 수 (= direct 버퍼 개수)
+    private Duration bufferAcquireTimeout = Duration.ofSeconds(5);
+    private int maxSessions = 1000;
+    private DataSize sendfileMinSize = DataSize.ofKilobytes(48); // 이보다 큰 응답은 Tomcat sendfile로 전송
+    private Duration cacheMaxAge = Duration.ofDays(365); // blob URL은 내용이 바뀌지 않으므로 길게 캐시
+    private Duration sessionTtl = Duration.ofHours(1); // 마지막 청크 이후 이 시간이 지나면 업로드 세션 폐기
+
+    public Path uploadDir() {
+        return root.resolve("uploads");
+    }
+
+    public Path blobDir() {
+        return root.resolve("blobs");
+    }
+
+    public Path thumbnailDir() {
+        return root.resolve("thumbnails");
+    }
+}
@@ -0,0 +1,190 @@
+package com.photoism.photoism_server.domain.image.thumbnail;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 렌더링된 썸네일을 메모리와 디스크에 크기 제한 LRU로 보관합니다.
+ * 메모리에서 밀려난 항목은 디스크에 남아 있다가, 디스크 용량을 넘으면 가장 오래 쓰지 않은 파일부터 지웁니다.
+ */
+@Slf4j
+class ThumbnailCache {
+
+    private final Path directory;
+    private final long maxMemoryBytes;
+    private final long maxDiskBytes;
+
+    // 접근 순서 LinkedHashMap: 맨 앞이 가장 오래 쓰지 않은 항목
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(1024, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+
+    ThumbnailCache(Path directory, long maxMemoryBytes, long maxDiskBytes) throws IOException {
+        this.directory = directory;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxDiskBytes = maxDiskBytes;
+        Files.createDirectories(directory);
+        loadDiskIndex();
+    }
+
+    byte[] get(String key) {
+        synchronized (this) {
+            byte[] cached = memory.get(key);
+            if (cached != null) {
+                disk.get(key); // 디스크 LRU 순서도 갱신
+                return cached;
+            }
+            if (!disk.containsKey(key)) {
+                return null;
+            }
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(pathOf(key)); // 썸네일은 작으므로 통째로 읽음
+            synchronized (this) {
+                disk.get(key);
+                putMemory(key, bytes);
+            }
+            return bytes;
+        } catch (NoSuchFileException e) {
+            synchronized (this) {
+                Long size = disk.remove(key);
+                if (size != null) {
+                    diskBytes -= size;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            log.warn("썸네일 캐시 읽기 실패: {}", key, e);
+            return null;
+        }
+    }
+
+    void put(String key, byte[] bytes) {
+        try {
+            Path target = pathOf(key);
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("썸네일 캐시 쓰기 실패: {}", key, e);
+            synchronized (this) {
+                putMemory(key, bytes);
+            }
+            return;
+        }
+        synchronized (this) {
+            Long previous = disk.put(key, (long) bytes.length);
+            diskBytes += bytes.length - (previous == null ? 0 : previous);
+            putMemory(key, bytes);
+            evictDisk();
+        }
+    }
+
+    // 해시의 모든 너비(hash_*)를 메모리와 디스크에서 지움. 디스크는 인덱스 대신 해시의 하위 디렉터리만 훑음
+    void removeAll(String hash) {
+        String prefix = hash + "_";
+        synchronized (this) {
+            memory.entrySet().removeIf(entry -> {
+                if (!entry.getKey().startsWith(prefix)) {
+                    return false;
+                }
+                memoryBytes -= entry.getValue().length;
+                return true;
+            });
+        }
+        Path dir = directory.resolve(hash.substring(0, 2));
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, prefix + "*.jpg")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                synchronized (this) {
+                    Long size = disk.remove(name.substring(0, name.length() - 4));
+                    if (size != null) {
+                        diskBytes -= size;
+                    }
+                }
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("썸네일 캐시 삭제 실패: {}", hash, e);
+        }
+    }
+
+    boolean contains(String key) {
+        synchronized (this) {
+            return memory.containsKey(key) || disk.containsKey(key);
+        }
+    }
+
+    private void putMemory(String key, byte[] bytes) {
+        if (bytes.length > maxMemoryBytes) {
+            return;
+        }
+        byte[] previous = memory.put(key, bytes);
+        memoryBytes += bytes.length - (previous == null ? 0 : previous.length);
+        Iterator<Map.Entry<String, byte[]>> eldest = memory.entrySet().iterator();
+        while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+            memoryBytes -= eldest.next().getValue().length;
+            eldest.remove();
+        }
+    }
+
+    private void evictDisk() {
+        Iterator<Map.Entry<String, Long>> eldest = disk.entrySet().iterator();
+        while (diskBytes > maxDiskBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            diskBytes -= entry.getValue();
+            eldest.remove();
+            byte[] removed = memory.remove(entry.getKey());
+            if (removed != null) {
+                memoryBytes -= removed.length;
+            }
+            try {
+                Files.deleteIfExists(pathOf(entry.getKey()));
+            } catch (IOException e) {
+                log.warn("썸네일 캐시 삭제 실패: {}", entry.getKey(), e);
+            }
+        }
+    }
+
+    // 기동 시 디스크의 기존 썸네일을 수정 시각 순으로 등록 (오래된 것이 먼저 밀려나도록)
+    private void loadDiskIndex() throws IOException {
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            files.filter(path -> path.getFileName().toString().endsWith(".tmp")).forEach(path -> path.toFile().delete());
+        }
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            files.filter(path -> path.getFileName().toString().endsWith(".jpg"))
+                    .sorted(Comparator.comparingLong(ThumbnailCache::lastModified))
+                    .forEach(path -> {
+                        String name = path.getFileName().toString();
+                        long size = path.toFile().length();
+                        disk.put(name.substring(0, name.length() - 4), size);
+                        diskBytes += size;
+                    });
+        }
+        evictDisk();
+    }
+
+    private Path pathOf(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ".jpg");
+    }
+
+    private static long lastModified(Path path) {
+        return path.toFile().lastModified();
+    }
+}
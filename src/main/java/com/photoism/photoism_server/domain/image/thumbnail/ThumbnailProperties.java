@@ -0,0 +1,27 @@
+package com.photoism.photoism_server.domain.image.thumbnail;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "thumbnail")
+public class ThumbnailProperties {
+    private List<Integer> widths = List.of(160, 320, 640, 1080); // 허용하는 썸네일 너비 (캐시가 임의 크기로 부풀지 않도록)
+    private int galleryWidth = 320; // 포토북 목록에 쓰는 너비
+    private List<Integer> pregenerateWidths = List.of(320); // 업로드 직후 미리 만들 너비
+    private int threads = 2; // 디코딩은 메모리를 많이 쓰므로 작게 유지
+    private int queueCapacity = 32;
+    private Duration renderTimeout = Duration.ofSeconds(10);
+    private float jpegQuality = 0.85f;
+    private long maxPixels = 50_000_000; // 원본 헤더의 가로×세로가 이보다 크면 디코딩하지 않고 거부
+    private DataSize memoryCacheSize = DataSize.ofMegabytes(32);
+    private DataSize diskCacheSize = DataSize.ofGigabytes(2);
+}
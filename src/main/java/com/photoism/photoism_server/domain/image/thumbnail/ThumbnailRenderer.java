@@ -0,0 +1,91 @@
+package com.photoism.photoism_server.domain.image.thumbnail;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.image.storage.JpegEncoder;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * ImageIO로 원본을 읽어 지정한 너비의 JPEG 썸네일을 만듭니다.
+ * 썸네일은 너비 × (너비 * MAX_HEIGHT_RATIO) 상자 안에 비율을 유지해 맞추며,
+ * 원본이 상자보다 훨씬 크면 디코딩 단계에서 가로·세로 모두 픽셀을 건너뛰어(subsampling) 읽으므로 원본 해상도만큼의 메모리를 쓰지 않습니다.
+ * 헤더의 가로×세로가 maxPixels를 넘는 원본은 디코딩하지 않고 거부합니다.
+ */
+class ThumbnailRenderer {
+
+    private static final int MAX_HEIGHT_RATIO = 4; // 네 컷 스트립(약 1:3)까지는 너비를 그대로 유지
+
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    ThumbnailRenderer(float jpegQuality, long maxPixels) {
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * @return JPEG 바이트, 읽을 수 있는 이미지 형식이 아니면 null
+     */
+    byte[] render(Path source, int width) throws IOException {
+        BufferedImage decoded = decode(source, width);
+        if (decoded == null) {
+            return null;
+        }
+        return JpegEncoder.encode(resize(decoded, width), jpegQuality);
+    }
+
+    private BufferedImage decode(Path source, int width) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    throw new BusinessException(ErrorCode.IMAGE_TOO_MANY_PIXELS);
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 두 축 모두 목표 상자의 2배 이상 해상도는 유지해 축소 품질을 보장 (세로로 긴 원본도 상자 기준으로 건너뜀)
+                int subsampling = (int) Math.max(1, Math.max(
+                        sourceWidth / (width * 2L),
+                        sourceHeight / (width * 2L * MAX_HEIGHT_RATIO)));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width) {
+        // 너비 × (너비 * MAX_HEIGHT_RATIO) 상자 안에 비율을 유지해 맞추고, 원본보다 크게 늘리지 않음
+        double scale = Math.min(1.0, Math.min((double) width / source.getWidth(),
+                (double) width * MAX_HEIGHT_RATIO / source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB); // JPEG은 알파 없음
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,184 @@
+package com.photoism.photoism_server.domain.image.thumbnail;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.image.service.BlobDeletedEvent;
+import com.photoism.photoism_server.domain.image.service.ImageStoredEvent;
+import com.photoism.photoism_server.domain.image.storage.BlobStore;
+import com.photoism.photoism_server.domain.image.storage.ImageStorageProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * blob 사진의 썸네일을 만들어 주는 서비스입니다.
+ * - 렌더링은 크기가 고정된 작업 풀에서만 실행되어, 요청이 몰려도 동시에 디코딩하는 원본 수가 제한됩니다.
+ * - 같은 썸네일을 동시에 요청하면 렌더링은 한 번만 하고 결과를 함께 받습니다. (single-flight)
+ * - 결과는 ThumbnailCache(메모리/디스크 LRU)에 보관하고, 업로드 직후에는 자주 쓰는 크기를 미리 만들어 둡니다.
+ * - 원본 blob이 GC되면 그 해시의 썸네일을 두 캐시에서 모두 지웁니다.
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final BlobStore blobStore;
+    private final ThumbnailProperties properties;
+    private final ThumbnailRenderer renderer;
+    private final ThumbnailCache cache;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter renders;
+
+    public ThumbnailService(BlobStore blobStore,
+                            ThumbnailProperties properties,
+                            ImageStorageProperties storageProperties,
+                            MeterRegistry meterRegistry) throws IOException {
+        this.blobStore = blobStore;
+        this.properties = properties;
+        this.renderer = new ThumbnailRenderer(properties.getJpegQuality(), properties.getMaxPixels());
+        this.cache = new ThumbnailCache(storageProperties.thumbnailDir(),
+                properties.getMemoryCacheSize().toBytes(), properties.getDiskCacheSize().toBytes());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.hits = Counter.builder("thumbnail.cache").tag("result", "hit").register(meterRegistry);
+        this.renders = Counter.builder("thumbnail.cache").tag("result", "render").register(meterRegistry);
+        Gauge.builder("thumbnail.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("thumbnail.in-flight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 썸네일 JPEG 바이트를 반환합니다. 캐시에 없으면 렌더링이 끝날 때까지 기다립니다.
+     */
+    public byte[] get(String hash, int width) {
+        if (!SHA256_HEX.matcher(hash).matches() || !properties.getWidths().contains(width)) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST);
+        }
+        String key = keyOf(hash, width);
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        return await(renderOnce(hash, width, key));
+    }
+
+    // 포토북 썸네일 백필처럼 결과 URL만 필요한 경우: 없으면 만들어 둠
+    public void ensure(String hash, int width) {
+        if (!cache.contains(keyOf(hash, width))) {
+            get(hash, width);
+        }
+    }
+
+    // 업로드 직후 자주 쓰는 크기를 미리 만들어 둠 (풀이 가득 차면 건너뛰고 요청 시 생성)
+    @EventListener
+    public void pregenerate(ImageStoredEvent event) {
+        for (int width : properties.getPregenerateWidths()) {
+            String key = keyOf(event.contentHash(), width);
+            if (!cache.contains(key)) {
+                renderOnce(event.contentHash(), width, key).exceptionally(e -> null);
+            }
+        }
+    }
+
+    // blob GC 후 삭제된 사진의 썸네일이 캐시에서 계속 응답되지 않도록 모든 너비를 지움
+    // (디스크 캐시는 image-storage.root 아래에 있어 노드가 공유하고, 다른 노드의 메모리 항목은 LRU로 밀려날 때까지 남음)
+    @EventListener
+    public void purge(BlobDeletedEvent event) {
+        cache.removeAll(event.contentHash());
+    }
+
+    private CompletableFuture<byte[]> renderOnce(String hash, int width, String key) {
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing; // 같은 썸네일을 이미 만드는 중
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(render(hash, width, key));
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(new BusinessException(ErrorCode.STORAGE_BUSY));
+        }
+        return created;
+    }
+
+    private byte[] render(String hash, int width, String key) throws IOException {
+        byte[] cached = cache.get(key); // 대기 중에 다른 요청이 이미 만들었을 수 있음
+        if (cached != null) {
+            return cached;
+        }
+        Path source = blobStore.pathOf(hash);
+        if (!Files.exists(source)) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+        }
+        byte[] bytes = renderer.render(source, width);
+        if (bytes == null) {
+            throw new BusinessException(ErrorCode.THUMBNAIL_UNSUPPORTED);
+        }
+        renders.increment();
+        cache.put(key, bytes);
+        return bytes;
+    }
+
+    private byte[] await(CompletableFuture<byte[]> future) {
+        try {
+            return future.get(properties.getRenderTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.STORAGE_BUSY); // 렌더링은 계속 진행되어 다음 요청에서 캐시로 응답
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.STORAGE_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("썸네일 생성 실패", e.getCause());
+            throw new BusinessException(ErrorCode.THUMBNAIL_UNSUPPORTED);
+        }
+    }
+
+    private static String keyOf(String hash, int width) {
+        return hash + "_" + width;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,25 +1,47 @@
 package com.photoism.photoism_server.domain.photobook.domain.entity;
 
+import com.photoism.photoism_server.common.config.TableIdGenerators;
 import com.photoism.photoism_server.domain.user.domain.entity.User;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "idx_photo_book_photo_url", columnList = "photo_url"),
+        @Index(name = "idx_photo_book_user_id_created_at_id", columnList = "user_id, created_at, id") // 사용자별 목록 keyset 페이지
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class PhotoBook {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "photo_book_id")
+    @TableGenerator(name = "photo_book_id", table = TableIdGenerators.TABLE,
+            pkColumnName = TableIdGenerators.PK_COLUMN, valueColumnName = TableIdGenerators.VALUE_COLUMN,
+            pkColumnValue = "photo_book", allocationSize = TableIdGenerators.ALLOCATION_SIZE)
+    private Long id; // 배치 INSERT를 위해 IDENTITY 대신 미리 할당받은 ID 사용
 
     private String photoUrl;
 
-    @ManyToOne
+    @Column(length = 64)
+    private String contentHash; // 사진 blob의 SHA-256 (blob 참조 수 관리에 사용)
+
+    private String thumbnailUrl; // 갤러리 목록용 썸네일 (PhotoBookThumbnailBackfillJob이 채움)
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt; // 목록 정렬 기준 (미리 할당받은 ID는 노드마다 블록이 달라 저장 순서와 맞지 않음)
 }
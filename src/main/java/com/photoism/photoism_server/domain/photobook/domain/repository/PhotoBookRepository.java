@@ -0,0 +1,34 @@
+package com.photoism.photoism_server.domain.photobook.domain.repository;
+
+import com.photoism.photoism_server.domain.photobook.domain.entity.PhotoBook;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PhotoBookRepository extends JpaRepository<PhotoBook, Long> {
+
+    // 사용자의 포토북을 최신순으로 cursor(createdAt, id) 이전부터 조회 (keyset)
+    // (user_id, created_at, id) 인덱스 범위만 읽고 User는 조인하지 않음
+    @Query("select new com.photoism.photoism_server.domain.photobook.domain.repository.PhotoBookSummary("
+            + "p.id, p.photoUrl, p.thumbnailUrl, p.createdAt) "
+            + "from PhotoBook p where p.user.id = :userId "
+            + "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) "
+            + "order by p.createdAt desc, p.id desc")
+    List<PhotoBookSummary> findPageByUserId(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // 썸네일이 없는 포토북을 id 순으로 한 페이지씩 조회 (keyset)
+    @Query("select p from PhotoBook p where p.thumbnailUrl is null and p.id > :lastId order by p.id")
+    List<PhotoBook> findWithoutThumbnail(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("update PhotoBook p set p.thumbnailUrl = :thumbnailUrl where p.id = :id")
+    int updateThumbnailUrl(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl);
+}
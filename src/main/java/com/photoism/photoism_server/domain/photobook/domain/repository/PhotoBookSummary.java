@@ -0,0 +1,14 @@
+package com.photoism.photoism_server.domain.photobook.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포토북 목록용 프로젝션 (엔티티와 User를 로딩하지 않음)
+ */
+public record PhotoBookSummary(
+        Long id,
+        String photoUrl,
+        String thumbnailUrl,
+        LocalDateTime createdAt
+) {
+}
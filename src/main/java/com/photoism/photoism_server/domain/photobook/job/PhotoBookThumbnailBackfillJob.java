@@ -0,0 +1,45 @@
+package com.photoism.photoism_server.domain.photobook.job;
+
+import com.photoism.photoism_server.common.job.BatchPager;
+import com.photoism.photoism_server.common.job.MaintenanceJobProperties;
+import com.photoism.photoism_server.domain.photobook.domain.entity.PhotoBook;
+import com.photoism.photoism_server.domain.photobook.domain.repository.PhotoBookRepository;
+import com.photoism.photoism_server.domain.photobook.service.PhotoBookThumbnailGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 썸네일이 없는 포토북의 썸네일을 만들어 thumbnailUrl을 채웁니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class PhotoBookThumbnailBackfillJob extends QuartzJobBean {
+
+    private final PhotoBookRepository photoBookRepository;
+    private final PhotoBookThumbnailGenerator thumbnailGenerator;
+    private final MaintenanceJobProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        int batchSize = properties.getBatchSize();
+        try {
+            long scanned = BatchPager.run(transactionTemplate, batchSize, properties.getPauseBetweenBatches(),
+                    lastId -> photoBookRepository.findWithoutThumbnail(lastId, PageRequest.of(0, batchSize)),
+                    PhotoBook::getId,
+                    page -> page.forEach(photoBook -> thumbnailGenerator.generate(photoBook)
+                            .ifPresent(url -> photoBookRepository.updateThumbnailUrl(photoBook.getId(), url))));
+            if (scanned > 0) {
+                log.info("포토북 썸네일 백필: {}건 확인", scanned);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
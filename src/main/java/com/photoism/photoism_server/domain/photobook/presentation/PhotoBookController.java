@@ -0,0 +1,46 @@
+package com.photoism.photoism_server.domain.photobook.presentation;
+
+import com.photoism.photoism_server.common.util.AuthenticationUtil;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.request.PhotoBookCreateRequest;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.request.PhotoSessionSaveRequest;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.response.PhotoBookPageResponse;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.response.PhotoBookResponse;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.response.PhotoSessionResponse;
+import com.photoism.photoism_server.domain.photobook.service.PhotoBookService;
+import com.photoism.photoism_server.domain.photobook.service.PhotoSessionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/photobooks")
+public class PhotoBookController {
+    private final PhotoBookService photoBookService;
+    private final PhotoSessionService photoSessionService;
+
+    // 내 포토북 목록 (최신순, 응답의 nextCursor를 다음 요청의 cursor로 전달)
+    @GetMapping
+    public ResponseEntity<PhotoBookPageResponse> list(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(photoBookService.list(AuthenticationUtil.getMemberId(), cursor, size));
+    }
+
+    // 업로드한 이미지를 내 포토북에 담음
+    @PostMapping
+    public ResponseEntity<PhotoBookResponse> add(@RequestBody PhotoBookCreateRequest req) {
+        return ResponseEntity.ok(photoBookService.add(AuthenticationUtil.getMemberId(), req.imageId()));
+    }
+
+    // 한 번의 촬영에서 나온 사진들과 보정값을 한꺼번에 저장
+    @PostMapping("/sessions")
+    public ResponseEntity<PhotoSessionResponse> saveSession(@RequestBody PhotoSessionSaveRequest req) {
+        return ResponseEntity.ok(photoSessionService.save(AuthenticationUtil.getMemberId(), req));
+    }
+
+    @DeleteMapping("/{photoBookId}")
+    public ResponseEntity<Void> remove(@PathVariable Long photoBookId) {
+        photoBookService.remove(AuthenticationUtil.getMemberId(), photoBookId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.photoism.photoism_server.domain.photobook.presentation.dto.request;
+
+public record PhotoBookCreateRequest(
+        Long imageId  // 업로드로 만들어진 이미지 ID
+) {
+}
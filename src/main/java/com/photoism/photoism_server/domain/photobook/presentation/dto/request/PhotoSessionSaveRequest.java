@@ -0,0 +1,12 @@
+package com.photoism.photoism_server.domain.photobook.presentation.dto.request;
+
+import com.photoism.photoism_server.domain.correction.presentation.dto.request.CorrectionRequest;
+
+import java.util.List;
+
+public record PhotoSessionSaveRequest(
+        List<Long> imageIds,  // 한 번의 촬영에서 나온 이미지 ID (스트립 순서대로)
+
+        CorrectionRequest correction  // 촬영에 적용한 보정값 (없으면 null)
+) {
+}
@@ -0,0 +1,9 @@
+package com.photoism.photoism_server.domain.photobook.presentation.dto.response;
+
+import java.util.List;
+
+public record PhotoBookPageResponse(
+        List<PhotoBookResponse> items,
+        String nextCursor  // 다음 페이지 요청 시 cursor로 그대로 전달, 마지막 페이지면 null
+) {
+}
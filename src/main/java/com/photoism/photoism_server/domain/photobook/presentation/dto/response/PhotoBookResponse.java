@@ -0,0 +1,18 @@
+package com.photoism.photoism_server.domain.photobook.presentation.dto.response;
+
+import com.photoism.photoism_server.domain.photobook.domain.entity.PhotoBook;
+import com.photoism.photoism_server.domain.photobook.domain.repository.PhotoBookSummary;
+
+public record PhotoBookResponse(
+        Long id,
+        String photoUrl,
+        String thumbnailUrl
+) {
+    public static PhotoBookResponse from(PhotoBook photoBook) {
+        return new PhotoBookResponse(photoBook.getId(), photoBook.getPhotoUrl(), photoBook.getThumbnailUrl());
+    }
+
+    public static PhotoBookResponse from(PhotoBookSummary summary) {
+        return new PhotoBookResponse(summary.id(), summary.photoUrl(), summary.thumbnailUrl());
+    }
+}
@@ -0,0 +1,9 @@
+package com.photoism.photoism_server.domain.photobook.presentation.dto.response;
+
+import java.util.List;
+
+public record PhotoSessionResponse(
+        List<PhotoBookResponse> photoBooks,
+        Long correctionId
+) {
+}
@@ -0,0 +1,49 @@
+package com.photoism.photoism_server.domain.photobook.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.image.storage.ImageStorageProperties;
+import com.photoism.photoism_server.domain.image.thumbnail.ThumbnailProperties;
+import com.photoism.photoism_server.domain.image.thumbnail.ThumbnailService;
+import com.photoism.photoism_server.domain.photobook.domain.entity.PhotoBook;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * blob으로 저장된 사진은 ThumbnailService로 갤러리 크기 썸네일을 만들어 그 URL을 사용합니다.
+ * blob이 없는 기존 행(외부 URL)은 UrlTemplateThumbnailGenerator로 처리합니다.
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class BlobThumbnailGenerator implements PhotoBookThumbnailGenerator {
+
+    private final ThumbnailService thumbnailService;
+    private final ThumbnailProperties thumbnailProperties;
+    private final ImageStorageProperties storageProperties;
+    private final UrlTemplateThumbnailGenerator fallback;
+
+    @Override
+    public Optional<String> generate(PhotoBook photoBook) {
+        String hash = photoBook.getContentHash();
+        if (hash == null) {
+            return fallback.generate(photoBook);
+        }
+        int width = thumbnailProperties.getGalleryWidth();
+        try {
+            thumbnailService.ensure(hash, width);
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.THUMBNAIL_UNSUPPORTED) {
+                return Optional.ofNullable(photoBook.getPhotoUrl()); // 썸네일을 만들 수 없는 형식은 원본을 그대로 사용
+            }
+            log.debug("포토북 썸네일 생성 보류: id={}, {}", photoBook.getId(), e.getErrorCode());
+            return Optional.empty(); // 다음 백필 때 다시 시도
+        }
+        return Optional.of(storageProperties.getPublicBaseUrl() + "/" + hash + "/thumbnails/" + width);
+    }
+}
@@ -0,0 +1,44 @@
+package com.photoism.photoism_server.domain.photobook.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.photobook.domain.repository.PhotoBookSummary;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 포토북 목록의 keyset 위치 (마지막으로 받은 행의 createdAt, id).
+ * 클라이언트에는 "<createdAt 마이크로초>_<id>" 문자열로 내려주고 그대로 돌려받습니다.
+ */
+record PhotoBookCursor(LocalDateTime createdAt, Long id) {
+
+    // 첫 페이지: DATETIME 최댓값 이전의 모든 행
+    static final PhotoBookCursor FIRST = new PhotoBookCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    static PhotoBookCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return FIRST;
+        }
+        int separator = cursor.indexOf('_');
+        try {
+            long micros = Long.parseLong(cursor.substring(0, separator));
+            long id = Long.parseLong(cursor.substring(separator + 1));
+            return new PhotoBookCursor(EPOCH.plus(micros, ChronoUnit.MICROS), id);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST);
+        }
+    }
+
+    static PhotoBookCursor of(PhotoBookSummary row) {
+        return new PhotoBookCursor(row.createdAt(), row.id());
+    }
+
+    String encode() {
+        long micros = createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + createdAt.getNano() / 1_000;
+        return micros + "_" + id;
+    }
+}
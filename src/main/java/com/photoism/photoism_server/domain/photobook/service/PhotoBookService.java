@@ -0,0 +1,93 @@
+package com.photoism.photoism_server.domain.photobook.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.image.domain.Image;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageBlobRepository;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageRepository;
+import com.photoism.photoism_server.domain.photobook.domain.entity.PhotoBook;
+import com.photoism.photoism_server.domain.photobook.domain.repository.PhotoBookRepository;
+import com.photoism.photoism_server.domain.photobook.domain.repository.PhotoBookSummary;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.response.PhotoBookPageResponse;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.response.PhotoBookResponse;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 포토북에 사진을 담고 빼는 서비스입니다.
+ * 단체 사진을 멤버마다 담아도 파일은 하나의 blob을 공유하고, 포토북 행마다 blob 참조 수가 하나씩 늘어납니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PhotoBookService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PhotoBookRepository photoBookRepository;
+    private final ImageRepository imageRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final UserRepository userRepository;
+
+    @Transactional
+    public PhotoBookResponse add(Long memberId, Long imageId) {
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        Image image = imageRepository.findById(imageId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        // 본인이 업로드한 이미지만 담을 수 있음 (같은 사진은 회원마다 해시로 업로드해 각자의 이미지를 만듦)
+        if (image.getUser() == null || !Objects.equals(image.getUser().getId(), memberId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+
+        // 이미지 행이 blob을 참조하고 있으므로 이 사이에 blob이 GC되지 않음
+        if (image.getContentHash() != null) {
+            imageBlobRepository.acquire(image.getContentHash(), image.getFileSize(), image.getContentType());
+        }
+        PhotoBook photoBook = photoBookRepository.save(PhotoBook.builder()
+                .photoUrl(image.getUrl())
+                .contentHash(image.getContentHash())
+                .user(userRepository.getReferenceById(memberId))
+                .build());
+        return PhotoBookResponse.from(photoBook);
+    }
+
+    /**
+     * 내 포토북을 최신순으로 한 페이지 조회합니다.
+     * 오프셋 대신 마지막 행의 (createdAt, id)를 기준으로 이어서 읽으므로 사진 수와 상관없이 페이지 조회 비용이 같습니다.
+     */
+    @Transactional(readOnly = true)
+    public PhotoBookPageResponse list(Long memberId, String cursor, int size) {
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PhotoBookCursor from = PhotoBookCursor.parse(cursor);
+        // 한 건 더 읽어 다음 페이지 존재 여부 확인
+        List<PhotoBookSummary> rows = photoBookRepository.findPageByUserId(
+                memberId, from.createdAt(), from.id(), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<PhotoBookSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? PhotoBookCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new PhotoBookPageResponse(page.stream().map(PhotoBookResponse::from).toList(), nextCursor);
+    }
+
+    @Transactional
+    public void remove(Long memberId, Long photoBookId) {
+        PhotoBook photoBook = photoBookRepository.findById(photoBookId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        if (photoBook.getUser() == null || !Objects.equals(photoBook.getUser().getId(), memberId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        photoBookRepository.delete(photoBook);
+        if (photoBook.getContentHash() != null) {
+            imageBlobRepository.release(photoBook.getContentHash(), 1);
+        }
+    }
+}
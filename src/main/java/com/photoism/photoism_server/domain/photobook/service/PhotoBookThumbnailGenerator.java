@@ -0,0 +1,14 @@
+package com.photoism.photoism_server.domain.photobook.service;
+
+import com.photoism.photoism_server.domain.photobook.domain.entity.PhotoBook;
+
+import java.util.Optional;
+
+/**
+ * 포토북 사진의 썸네일을 준비하고 그 URL을 돌려줍니다.
+ * 썸네일을 만들 수 없는 경우(원본 없음 등) 빈 값을 반환하며, 다음 백필 때 다시 시도합니다.
+ */
+public interface PhotoBookThumbnailGenerator {
+
+    Optional<String> generate(PhotoBook photoBook);
+}
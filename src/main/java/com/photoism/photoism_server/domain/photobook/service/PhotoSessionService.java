@@ -0,0 +1,97 @@
+package com.photoism.photoism_server.domain.photobook.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.correction.service.CorrectionService;
+import com.photoism.photoism_server.domain.image.domain.Image;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageBlobRepository;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageRepository;
+import com.photoism.photoism_server.domain.photobook.domain.entity.PhotoBook;
+import com.photoism.photoism_server.domain.photobook.domain.repository.PhotoBookRepository;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.request.PhotoSessionSaveRequest;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.response.PhotoBookResponse;
+import com.photoism.photoism_server.domain.photobook.presentation.dto.response.PhotoSessionResponse;
+import com.photoism.photoism_server.domain.user.domain.entity.User;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 한 번의 촬영(세션)에서 나온 사진들과 보정값을 한 트랜잭션에 저장하는 서비스입니다.
+ *
+ * 포토북과 보정 엔티티는 미리 할당받은 ID를 쓰므로 INSERT가 커밋 시점에 JDBC 배치로 묶여 나가고,
+ * 드라이버의 rewriteBatchedStatements/useBulkStmts 설정으로 행마다 왕복하지 않고 한 번에 전송됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PhotoSessionService {
+
+    private static final int MAX_SESSION_PHOTOS = 20;
+
+    private final PhotoBookRepository photoBookRepository;
+    private final CorrectionService correctionService;
+    private final ImageRepository imageRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final UserRepository userRepository;
+
+    @Transactional
+    public PhotoSessionResponse save(Long memberId, PhotoSessionSaveRequest req) {
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        List<Long> imageIds = req.imageIds();
+        if (imageIds == null || imageIds.isEmpty() || imageIds.size() > MAX_SESSION_PHOTOS
+                || imageIds.contains(null)) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST);
+        }
+
+        Map<Long, Image> images = imageRepository.findAllById(new HashSet<>(imageIds)).stream()
+                .collect(Collectors.toMap(Image::getId, Function.identity()));
+        if (!images.keySet().containsAll(imageIds)) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+        }
+        // 본인이 업로드한 이미지만 담을 수 있음 (PhotoBookService.add와 같은 규칙)
+        if (images.values().stream()
+                .anyMatch(image -> image.getUser() == null || !Objects.equals(image.getUser().getId(), memberId))) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+
+        // blob 참조는 해시별로 모아 한 번씩만 늘림 (이미지 행이 blob을 참조하고 있으므로 그 사이에 GC되지 않음)
+        imageIds.stream()
+                .map(images::get)
+                .filter(image -> image.getContentHash() != null)
+                .collect(Collectors.groupingBy(Image::getContentHash))
+                .forEach((hash, same) -> {
+                    Image image = same.get(0);
+                    imageBlobRepository.acquire(hash, image.getFileSize(), image.getContentType(), same.size());
+                });
+
+        User user = userRepository.getReferenceById(memberId);
+        List<PhotoBook> photoBooks = photoBookRepository.saveAll(imageIds.stream()
+                .map(images::get)
+                .map(image -> PhotoBook.builder()
+                        .photoUrl(image.getUrl())
+                        .contentHash(image.getContentHash())
+                        .user(user)
+                        .build())
+                .toList());
+
+        Long correctionId = null;
+        if (req.correction() != null) {
+            // 세션의 보정값이 사용자의 새 프리셋이 됨 (커밋 후 프리셋 캐시에 반영)
+            correctionId = correctionService.save(memberId, req.correction()).id();
+        }
+
+        return new PhotoSessionResponse(
+                photoBooks.stream().map(PhotoBookResponse::from).toList(),
+                correctionId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.photoism.photoism_server.domain.photobook.service;
+
+import com.photoism.photoism_server.common.job.MaintenanceJobProperties;
+import com.photoism.photoism_server.domain.photobook.domain.entity.PhotoBook;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 원본 URL로부터 썸네일 URL을 만드는 기본 구현입니다. (이미지 서버/CDN의 리사이즈 기능을 사용할 때)
+ * maintenance-job.thumbnail-url-template의 {photoUrl}, {id}가 치환됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UrlTemplateThumbnailGenerator implements PhotoBookThumbnailGenerator {
+
+    private final MaintenanceJobProperties properties;
+
+    @Override
+    public Optional<String> generate(PhotoBook photoBook) {
+        if (photoBook.getPhotoUrl() == null || photoBook.getPhotoUrl().isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(properties.getThumbnailUrlTemplate()
+                .replace("{photoUrl}", photoBook.getPhotoUrl())
+                .replace("{id}", String.valueOf(photoBook.getId())));
+    }
+}
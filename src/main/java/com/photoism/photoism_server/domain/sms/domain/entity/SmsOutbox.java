@@ -0,0 +1,60 @@
+package com.photoism.photoism_server.domain.sms.domain.entity;
+
+import com.photoism.photoism_server.domain.sms.domain.enums.SmsStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 발송 대기 중인 문자 메시지. 요청 처리 중에는 이 테이블에 적재만 하고 SmsDispatcher가 모아서 보냄
+@Entity
+@Table(
+        name = "sms_outbox",
+        indexes = @Index(name = "idx_sms_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_sms_outbox_dedupe_key", columnNames = "dedupe_key")
+)
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmsOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dedupe_key", nullable = false, length = 100)
+    private String dedupeKey; // 같은 메시지를 두 번 적재하지 않기 위한 키 (예: photo-ready:{photoBookId})
+
+    @Column(nullable = false, length = 20)
+    private String recipient; // 수신 번호
+
+    @Column(nullable = false, length = 2000)
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SmsStatus status;
+
+    private int attempts; // 발송 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 발송 시도 가능 시각
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt; // SENDING으로 가져간 시각 (발송 임대 시작, sms.claim-timeout이 지나면 회수)
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
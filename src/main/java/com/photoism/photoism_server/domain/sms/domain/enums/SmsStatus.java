@@ -0,0 +1,10 @@
+package com.photoism.photoism_server.domain.sms.domain.enums;
+
+public enum SmsStatus {
+    // 발송 상태 - 대기, 발송중, 완료, 실패, 중복
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED,
+    DUPLICATE
+}
@@ -0,0 +1,63 @@
+package com.photoism.photoism_server.domain.sms.domain.repository;
+
+import com.photoism.photoism_server.domain.sms.domain.entity.SmsOutbox;
+import com.photoism.photoism_server.domain.sms.domain.enums.SmsStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SmsOutboxRepository extends JpaRepository<SmsOutbox, Long> {
+
+    boolean existsByDedupeKey(String dedupeKey);
+
+    // 발송할 차례가 된 메시지를 잠그며 조회. 다른 노드가 잠근 행은 건너뜀 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select s from SmsOutbox s where s.status = :status and s.nextAttemptAt <= :now order by s.id")
+    List<SmsOutbox> findDueForUpdate(@Param("status") SmsStatus status,
+                                     @Param("now") LocalDateTime now,
+                                     Pageable pageable);
+
+    @Query("select s from SmsOutbox s where s.status = :status order by s.id")
+    List<SmsOutbox> findByStatus(@Param("status") SmsStatus status, Pageable pageable);
+
+    @Modifying
+    @Query("update SmsOutbox s set s.status = :status where s.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") SmsStatus status);
+
+    // 발송할 메시지를 SENDING으로 가져가며 임대 시작 시각을 기록
+    @Modifying
+    @Query("update SmsOutbox s "
+            + "set s.status = com.photoism.photoism_server.domain.sms.domain.enums.SmsStatus.SENDING, s.claimedAt = :now "
+            + "where s.id in :ids")
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 임대 시간이 지난 SENDING 메시지를 대기로 되돌림. 다른 노드가 지금 보내고 있는 메시지는 건드리지 않음
+    // (claimed_at이 없는 행은 임대 기록 전 버전이 남긴 것)
+    @Modifying
+    @Query("update SmsOutbox s "
+            + "set s.status = com.photoism.photoism_server.domain.sms.domain.enums.SmsStatus.PENDING, s.claimedAt = null "
+            + "where s.status = com.photoism.photoism_server.domain.sms.domain.enums.SmsStatus.SENDING "
+            + "and (s.claimedAt is null or s.claimedAt < :claimedBefore)")
+    int releaseExpiredClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    @Modifying
+    @Query("update SmsOutbox s "
+            + "set s.status = com.photoism.photoism_server.domain.sms.domain.enums.SmsStatus.SENT, s.attempts = s.attempts + 1, s.sentAt = :sentAt "
+            + "where s.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("update SmsOutbox s set s.status = :status, s.attempts = s.attempts + 1, "
+            + "s.nextAttemptAt = :nextAttemptAt, s.lastError = :lastError where s.id = :id")
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("status") SmsStatus status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError);
+}
@@ -0,0 +1,105 @@
+package com.photoism.photoism_server.domain.sms.sender;
+
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Nurigo(CoolSMS) SDK의 다건 전송 API로 메시지를 한 번에 보내는 구현체입니다.
+ * 같은 번호로 가는 메시지가 한 배치에 여럿이면 번호가 겹치지 않도록 나눠 보냅니다. (batchesWithUniqueRecipients)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.sender", havingValue = "nurigo")
+public class NurigoSmsSender implements SmsSender {
+
+    private final DefaultMessageService messageService;
+    private final String from;
+
+    public NurigoSmsSender(SmsProperties properties) {
+        this.messageService = NurigoApp.INSTANCE.initialize(
+                properties.getApiKey(), properties.getApiSecret(), properties.getApiUrl());
+        this.from = properties.getFrom();
+    }
+
+    @Override
+    public SmsSendResult send(List<SmsMessage> messages) {
+        Set<Long> failedIds = new HashSet<>();
+        String error = null;
+        List<List<SmsMessage>> batches = batchesWithUniqueRecipients(messages);
+        for (int i = 0; i < batches.size(); i++) {
+            List<SmsMessage> batch = batches.get(i);
+            try {
+                messageService.send(toRequests(batch), false, false);
+            } catch (NurigoMessageNotReceivedException e) {
+                // 일부 메시지만 접수되지 않은 경우: 배치 안에서 수신 번호가 겹치지 않으므로 번호로 실패한 메시지를 찾음
+                Set<String> failedRecipients = new HashSet<>();
+                for (FailedMessage failed : e.getFailedMessageList()) {
+                    failedRecipients.add(failed.getTo());
+                }
+                for (SmsMessage sms : batch) {
+                    if (failedRecipients.contains(sms.to())) {
+                        failedIds.add(sms.id());
+                    }
+                }
+                error = e.getMessage();
+            } catch (Exception e) {
+                if (i == 0) {
+                    throw new IllegalStateException("문자 다건 전송 실패: " + e.getMessage(), e);
+                }
+                // 앞 배치는 이미 접수됐으므로 이번 배치부터만 실패로 돌려줌
+                for (List<SmsMessage> rest : batches.subList(i, batches.size())) {
+                    rest.forEach(sms -> failedIds.add(sms.id()));
+                }
+                error = e.getMessage();
+                break;
+            }
+        }
+        if (failedIds.isEmpty()) {
+            return SmsSendResult.success();
+        }
+        log.warn("문자 {}건 중 {}건 접수 실패: {}", messages.size(), failedIds.size(), error);
+        return new SmsSendResult(failedIds, error);
+    }
+
+    /**
+     * Nurigo는 접수하지 못한 메시지를 수신 번호로만 알려주므로, 한 번의 호출에는 번호마다 메시지를 한 건만 담습니다.
+     * 같은 번호로 가는 메시지가 여럿이면 두 번째부터는 다음 호출로 나눕니다. (대부분의 배치는 한 번에 전송)
+     */
+    static List<List<SmsMessage>> batchesWithUniqueRecipients(List<SmsMessage> messages) {
+        List<List<SmsMessage>> batches = new ArrayList<>();
+        Map<String, Integer> countByRecipient = new HashMap<>();
+        for (SmsMessage sms : messages) {
+            int round = countByRecipient.merge(sms.to(), 1, Integer::sum) - 1;
+            if (round == batches.size()) {
+                batches.add(new ArrayList<>());
+            }
+            batches.get(round).add(sms);
+        }
+        return batches;
+    }
+
+    private List<Message> toRequests(List<SmsMessage> messages) {
+        List<Message> requests = new ArrayList<>(messages.size());
+        for (SmsMessage sms : messages) {
+            Message message = new Message();
+            message.setFrom(from);
+            message.setTo(sms.to());
+            message.setText(sms.text());
+            requests.add(message);
+        }
+        return requests;
+    }
+}
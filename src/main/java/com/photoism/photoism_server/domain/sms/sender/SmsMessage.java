@@ -0,0 +1,8 @@
+package com.photoism.photoism_server.domain.sms.sender;
+
+public record SmsMessage(
+        Long id,  // sms_outbox 행 ID
+        String to,
+        String text
+) {
+}
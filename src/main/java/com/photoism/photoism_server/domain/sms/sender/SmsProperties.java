@@ -0,0 +1,27 @@
+package com.photoism.photoism_server.domain.sms.sender;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sms")
+public class SmsProperties {
+    private String sender = "stub"; // nurigo | stub
+    private String apiKey;
+    private String apiSecret;
+    private String apiUrl = "https://api.coolsms.co.kr";
+    private String from; // 발신 번호
+    private int batchSize = 100; // 한 번의 다건 전송에 담는 최대 메시지 수
+    private int ratePerSecond = 50; // 초당 최대 발송 수
+    private long dispatchIntervalMs = 1000;
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofSeconds(5); // 재시도 간격은 시도마다 두 배
+    private Duration maxBackoff = Duration.ofMinutes(10);
+    private Duration claimTimeout = Duration.ofMinutes(5); // 발송 중(SENDING)으로 가져간 뒤 이 시간이 지나도 끝나지 않으면 다시 대기로 (전송 타임아웃보다 길게)
+}
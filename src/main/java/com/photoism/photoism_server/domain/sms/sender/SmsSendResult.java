@@ -0,0 +1,12 @@
+package com.photoism.photoism_server.domain.sms.sender;
+
+import java.util.Set;
+
+public record SmsSendResult(
+        Set<Long> failedIds,  // 전송에 실패한 메시지의 ID
+        String error  // 실패 사유 (모두 성공하면 null)
+) {
+    public static SmsSendResult success() {
+        return new SmsSendResult(Set.of(), null);
+    }
+}
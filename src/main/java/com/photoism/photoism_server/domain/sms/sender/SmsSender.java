@@ -0,0 +1,15 @@
+package com.photoism.photoism_server.domain.sms.sender;
+
+import java.util.List;
+
+/**
+ * 문자 메시지를 실제로 전송하는 구현체입니다. sms.sender 설정으로 선택합니다.
+ * (nurigo: Nurigo SDK 다건 전송, stub: 전송하지 않고 메모리에 기록)
+ */
+public interface SmsSender {
+
+    /**
+     * 메시지를 한 번의 호출로 전송합니다. 예외를 던지면 배치 전체를 실패로 처리합니다.
+     */
+    SmsSendResult send(List<SmsMessage> messages);
+}
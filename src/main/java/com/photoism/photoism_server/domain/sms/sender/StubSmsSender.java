@@ -0,0 +1,39 @@
+package com.photoism.photoism_server.domain.sms.sender;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실제로 전송하지 않고 메시지를 메모리에 기록하는 로컬/테스트용 구현체입니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.sender", havingValue = "stub", matchIfMissing = true)
+public class StubSmsSender implements SmsSender {
+
+    private static final int MAX_RECORDED = 1_000;
+
+    private final List<SmsMessage> sent = new ArrayList<>();
+
+    @Override
+    public synchronized SmsSendResult send(List<SmsMessage> messages) {
+        log.debug("[stub] 문자 {}건 전송", messages.size());
+        sent.addAll(messages);
+        if (sent.size() > MAX_RECORDED) {
+            sent.subList(0, sent.size() - MAX_RECORDED).clear();
+        }
+        return SmsSendResult.success();
+    }
+
+    public synchronized List<SmsMessage> getSent() {
+        return List.copyOf(sent);
+    }
+
+    public synchronized void clear() {
+        sent.clear();
+    }
+}
@@ -0,0 +1,181 @@
+package com.photoism.photoism_server.domain.sms.service;
+
+import com.photoism.photoism_server.domain.sms.domain.entity.SmsOutbox;
+import com.photoism.photoism_server.domain.sms.domain.enums.SmsStatus;
+import com.photoism.photoism_server.domain.sms.domain.repository.SmsOutboxRepository;
+import com.photoism.photoism_server.domain.sms.sender.SmsMessage;
+import com.photoism.photoism_server.domain.sms.sender.SmsProperties;
+import com.photoism.photoism_server.domain.sms.sender.SmsSendResult;
+import com.photoism.photoism_server.domain.sms.sender.SmsSender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * sms_outbox에 쌓인 문자를 주기적으로 모아 다건 전송하는 컴포넌트입니다.
+ * 초당 발송량(sms.rate-per-second)을 넘지 않도록 배치 크기를 조절하고,
+ * 실패한 메시지는 지수 백오프로 재시도하다가 sms.max-attempts를 넘으면 FAILED로 남깁니다.
+ * 여러 노드가 동시에 실행해도 SKIP LOCKED로 서로 다른 행을 가져갑니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmsDispatcher {
+
+    private static final int STARTUP_PAGE_SIZE = 500;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final SmsOutboxRepository smsOutboxRepository;
+    private final SmsSender smsSender;
+    private final SmsProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 기동 시 전송 도중 종료된 노드가 남긴 메시지(임대 시간 초과)를 대기 상태로 되돌리고,
+     * 같은 번호로 같은 내용이 여러 번 쌓인 대기 메시지를 정리한 뒤 바로 발송을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void drainOnStartup() {
+        int recovered = recoverExpiredClaims();
+        int duplicates = dedupePending();
+        if (recovered > 0 || duplicates > 0) {
+            log.info("문자 대기열 복구: 재시도 {}건, 중복 제거 {}건", recovered, duplicates);
+        }
+        dispatch();
+    }
+
+    /**
+     * 임대 시간이 지난 SENDING 메시지를 대기로 되돌립니다. 재기동하지 않고 죽은 노드의 메시지도 다른 노드가 이어서 보냅니다.
+     * 살아 있는 노드가 보내는 중인 메시지는 임대 시간 안이므로 그대로 둡니다.
+     */
+    @Scheduled(fixedDelayString = "${sms.claim-timeout:PT5M}")
+    public int recoverExpiredClaims() {
+        Integer recovered = transactionTemplate.execute(status ->
+                smsOutboxRepository.releaseExpiredClaims(LocalDateTime.now().minus(properties.getClaimTimeout())));
+        if (recovered != null && recovered > 0) {
+            log.warn("임대 시간이 지난 발송 중 문자 {}건을 다시 대기열로 되돌림", recovered);
+        }
+        return recovered == null ? 0 : recovered;
+    }
+
+    @Scheduled(fixedDelayString = "${sms.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int limit = (int) Math.max(1, Math.min(
+                    properties.getBatchSize(),
+                    properties.getRatePerSecond() * properties.getDispatchIntervalMs() / 1000));
+            List<SmsOutbox> batch = claim(limit);
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        } catch (Exception e) {
+            log.error("문자 발송 처리 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 발송할 메시지를 잠그고 SENDING으로 바꿔, 전송하는 동안 다른 노드가 가져가지 않게 합니다.
+    private List<SmsOutbox> claim(int limit) {
+        List<SmsOutbox> batch = transactionTemplate.execute(status -> {
+            List<SmsOutbox> due = smsOutboxRepository.findDueForUpdate(
+                    SmsStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, limit));
+            if (!due.isEmpty()) {
+                smsOutboxRepository.markClaimed(due.stream().map(SmsOutbox::getId).toList(), LocalDateTime.now());
+            }
+            return due;
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    private void send(List<SmsOutbox> batch) {
+        List<SmsMessage> messages = batch.stream()
+                .map(outbox -> new SmsMessage(outbox.getId(), outbox.getRecipient(), outbox.getText()))
+                .toList();
+
+        SmsSendResult result;
+        try {
+            result = smsSender.send(messages);
+        } catch (Exception e) {
+            Set<Long> allIds = new HashSet<>();
+            batch.forEach(outbox -> allIds.add(outbox.getId()));
+            result = new SmsSendResult(allIds, e.getMessage());
+        }
+
+        SmsSendResult sendResult = result;
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> sentIds = new ArrayList<>();
+            LocalDateTime now = LocalDateTime.now();
+            for (SmsOutbox outbox : batch) {
+                if (!sendResult.failedIds().contains(outbox.getId())) {
+                    sentIds.add(outbox.getId());
+                    continue;
+                }
+                int attempts = outbox.getAttempts() + 1;
+                boolean giveUp = attempts >= properties.getMaxAttempts();
+                smsOutboxRepository.markAttemptFailed(
+                        outbox.getId(),
+                        giveUp ? SmsStatus.FAILED : SmsStatus.PENDING,
+                        now.plus(backoff(attempts)),
+                        truncate(sendResult.error())
+                );
+            }
+            if (!sentIds.isEmpty()) {
+                smsOutboxRepository.markSent(sentIds, now);
+            }
+        });
+
+        if (!sendResult.failedIds().isEmpty()) {
+            log.warn("문자 {}건 중 {}건 발송 실패: {}", batch.size(), sendResult.failedIds().size(), sendResult.error());
+        }
+    }
+
+    // 대기 중인 메시지 중 같은 번호/내용으로 먼저 쌓인 메시지가 있으면 나중 것을 DUPLICATE로 표시합니다.
+    private int dedupePending() {
+        Set<String> seen = new HashSet<>();
+        List<Long> duplicateIds = new ArrayList<>();
+        int page = 0;
+        List<SmsOutbox> pending;
+        do {
+            pending = smsOutboxRepository.findByStatus(SmsStatus.PENDING, PageRequest.of(page++, STARTUP_PAGE_SIZE));
+            for (SmsOutbox outbox : pending) {
+                if (!seen.add(outbox.getRecipient() + '\n' + outbox.getText())) {
+                    duplicateIds.add(outbox.getId());
+                }
+            }
+        } while (pending.size() == STARTUP_PAGE_SIZE);
+
+        if (!duplicateIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    smsOutboxRepository.updateStatus(duplicateIds, SmsStatus.DUPLICATE));
+        }
+        return duplicateIds.size();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
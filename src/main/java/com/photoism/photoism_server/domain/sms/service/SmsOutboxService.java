@@ -0,0 +1,49 @@
+package com.photoism.photoism_server.domain.sms.service;
+
+import com.photoism.photoism_server.domain.sms.domain.entity.SmsOutbox;
+import com.photoism.photoism_server.domain.sms.domain.enums.SmsStatus;
+import com.photoism.photoism_server.domain.sms.domain.repository.SmsOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문자 발송 요청을 sms_outbox 테이블에 적재하는 서비스입니다.
+ * 요청 스레드에서는 적재만 하고, 실제 전송은 SmsDispatcher가 배치로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SmsOutboxService {
+
+    private final SmsOutboxRepository smsOutboxRepository;
+
+    /**
+     * 문자를 발송 대기열에 추가합니다.
+     *
+     * @param dedupeKey 같은 키로 이미 적재된 메시지가 있으면 추가하지 않음 (예: photo-ready:{photoBookId})
+     * @return 새로 적재되었으면 true, 중복이면 false
+     */
+    public boolean enqueue(String dedupeKey, String recipient, String text) {
+        if (smsOutboxRepository.existsByDedupeKey(dedupeKey)) {
+            return false;
+        }
+        try {
+            smsOutboxRepository.save(SmsOutbox.builder()
+                    .dedupeKey(dedupeKey)
+                    .recipient(recipient)
+                    .text(text)
+                    .status(SmsStatus.PENDING)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 키로 적재된 경우 (유니크 제약)
+            log.debug("이미 적재된 문자입니다: {}", dedupeKey);
+            return false;
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package com.photoism.photoism_server.domain.user.domain.entity;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
 
 @Entity
+@Table(
+        indexes = {
+                @Index(name = "idx_user_refresh_token_hash", columnList = "refresh_token_hash"),
+                @Index(name = "idx_user_refresh_token_expires_at", columnList = "refresh_token_expires_at")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_email", columnNames = "email")
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 @Getter
 @Builder
 @NoArgsConstructor
@@ -25,7 +35,12 @@ public class User {
 
     private String password;
 
-    private String email;
+    @NaturalId
+    private String email; // 로그인 조회 키 (natural id 캐시로 이메일 -> id를 캐시)
 
-    private String refreshToken;
+    @Column(name = "refresh_token_hash", length = 64)
+    private String refreshTokenHash; // 리프레시 토큰의 SHA-256 해시 (토큰 원문은 저장하지 않음)
+
+    @Column(name = "refresh_token_expires_at")
+    private LocalDateTime refreshTokenExpiresAt; // 만료된 토큰은 RefreshTokenPurgeJob이 정리
 }
@@ -1,16 +1,40 @@
 package com.photoism.photoism_server.domain.user.domain.repository;
 
+import com.photoism.photoism_server.common.util.TokenHashUtil;
 import com.photoism.photoism_server.domain.user.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
-public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>{
-    Optional<User> findByRefreshToken(String refreshToken);
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>, UserRepositoryCustom {
+    Optional<User> findByRefreshTokenHash(String refreshTokenHash);
 
-    Optional<User> findByEmail(String email);
+    // 리프레시 토큰은 해시로만 저장되므로, 해시를 계산한 뒤 인덱스로 조회합니다.
+    default Optional<User> findByRefreshToken(String refreshToken) {
+        return findByRefreshTokenHash(TokenHashUtil.sha256Hex(refreshToken));
+    }
 
     boolean existsByEmail(String email);
+
+    // 만료된 리프레시 토큰을 가진 사용자 ID를 id 순으로 한 페이지씩 조회 (keyset)
+    @Query("select u.id from User u where u.refreshTokenExpiresAt < :now and u.id > :lastId order by u.id")
+    List<Long> findIdsWithRefreshTokenExpiredBefore(@Param("now") LocalDateTime now,
+                                                    @Param("lastId") Long lastId,
+                                                    Pageable pageable);
+
+    // 조회 이후 재발급된 토큰은 지우지 않도록 만료 조건을 다시 확인합니다.
+    // (일괄 작업이므로 Hibernate가 User 캐시 영역 전체를 비우는 것을 허용)
+    @Modifying
+    @Query("update User u set u.refreshTokenHash = null, u.refreshTokenExpiresAt = null "
+            + "where u.id in :ids and u.refreshTokenExpiresAt < :now")
+    int clearExpiredRefreshTokens(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
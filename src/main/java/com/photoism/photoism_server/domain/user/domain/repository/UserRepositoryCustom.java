@@ -0,0 +1,23 @@
+package com.photoism.photoism_server.domain.user.domain.repository;
+
+import com.photoism.photoism_server.domain.user.domain.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 2차 캐시를 직접 다루는 User 조회/갱신 (UserRepositoryImpl)
+ */
+public interface UserRepositoryCustom {
+
+    // 이메일(natural id) -> id -> User 모두 2차 캐시에서 찾고, 없을 때만 DB 조회
+    Optional<User> findByEmail(String email);
+
+    // 엔티티를 읽어 병합하지 않고 UPDATE 한 번으로 리프레시 토큰만 갱신합니다.
+    int updateRefreshToken(Long id, String refreshTokenHash, LocalDateTime refreshTokenExpiresAt);
+
+    // 저장된 해시가 expectedHash일 때만 새 토큰으로 바꿉니다. null이면 지움 (0이면 다른 곳에서 이미 교환된 토큰)
+    int replaceRefreshToken(Long id, String expectedHash, String refreshTokenHash, LocalDateTime refreshTokenExpiresAt);
+
+    int updatePassword(Long id, String password);
+}
@@ -0,0 +1,93 @@
+package com.photoism.photoism_server.domain.user.domain.repository;
+
+import com.photoism.photoism_server.domain.user.domain.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * JPQL 일괄 UPDATE는 Hibernate가 User 캐시 영역 전체를 비우므로, 로그인마다 실행되는 토큰/비밀번호 갱신은
+ * 캐시 무효화 대상을 지정하지 않은 네이티브 UPDATE로 실행하고 해당 사용자 항목만 직접 지웁니다.
+ * 커밋 전에 다른 요청이 예전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 지웁니다.
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 로그인 조회는 복제본으로 보냄 (라우팅을 켜면 ReplicaReadJpaDialect가 캐시에서 읽기만 하고 복제본에서 읽은 값은 넣지 않음)
+    // 로그인 뒤의 토큰/비밀번호 갱신은 각자 primary에서 네이티브 UPDATE로 실행
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    @Override
+    @Transactional
+    public int updateRefreshToken(Long id, String refreshTokenHash, LocalDateTime refreshTokenExpiresAt) {
+        int updated = entityManager.createNativeQuery(
+                        "update user set refresh_token_hash = :hash, refresh_token_expires_at = :expiresAt where id = :id")
+                .setParameter("hash", refreshTokenHash)
+                .setParameter("expiresAt", refreshTokenExpiresAt)
+                .setParameter("id", id)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("") // 빈 공간: Hibernate가 캐시 영역을 비우지 않음
+                .executeUpdate();
+        evict(id);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int replaceRefreshToken(Long id, String expectedHash, String refreshTokenHash,
+                                   LocalDateTime refreshTokenExpiresAt) {
+        int updated = entityManager.createNativeQuery(
+                        "update user set refresh_token_hash = :hash, refresh_token_expires_at = :expiresAt "
+                                + "where id = :id and refresh_token_hash = :expectedHash")
+                .setParameter("hash", refreshTokenHash)
+                .setParameter("expiresAt", refreshTokenExpiresAt)
+                .setParameter("id", id)
+                .setParameter("expectedHash", expectedHash)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("")
+                .executeUpdate();
+        evict(id);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int updatePassword(Long id, String password) {
+        int updated = entityManager.createNativeQuery("update user set password = :password where id = :id")
+                .setParameter("password", password)
+                .setParameter("id", id)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("")
+                .executeUpdate();
+        evict(id);
+        return updated;
+    }
+
+    private void evict(Long id) {
+        jakarta.persistence.Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(User.class, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(User.class, id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.photoism.photoism_server.domain.user.domain.token;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 메모리에 리프레시 토큰을 보관하는 기본 저장소입니다.
+ * 만료된 토큰은 조회 시 무시되고, 1분마다 백그라운드에서 정리됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final long SWEEP_INTERVAL_SECONDS = 60;
+
+    private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> families = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "refresh-token-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InMemoryRefreshTokenStore() {
+        sweeper.scheduleWithFixedDelay(this::evictExpired,
+                SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        tokens.put(token.tokenHash(), token);
+        families.computeIfAbsent(token.familyId(), id -> ConcurrentHashMap.newKeySet()).add(token.tokenHash());
+    }
+
+    @Override
+    public Optional<RefreshToken> find(String tokenHash) {
+        RefreshToken token = tokens.get(tokenHash);
+        if (token == null || token.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(token);
+    }
+
+    @Override
+    public boolean rotate(String usedTokenHash, RefreshToken next) {
+        RefreshToken token = tokens.get(usedTokenHash);
+        if (token == null || token.used() || token.isExpired(Instant.now())) {
+            return false;
+        }
+        // 동시에 같은 토큰으로 갱신을 시도하면 한 요청만 성공 (다음 토큰은 성공한 요청만 저장)
+        if (!tokens.replace(usedTokenHash, token, token.markUsed())) {
+            return false;
+        }
+        save(next);
+        return true;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        Set<String> hashes = families.remove(familyId);
+        if (hashes != null) {
+            hashes.forEach(tokens::remove);
+        }
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    void evictExpired() {
+        Instant now = Instant.now();
+        tokens.values().removeIf(token -> {
+            if (!token.isExpired(now)) {
+                return false;
+            }
+            Set<String> hashes = families.get(token.familyId());
+            if (hashes != null) {
+                hashes.remove(token.tokenHash());
+            }
+            return true;
+        });
+        families.values().removeIf(Set::isEmpty);
+    }
+}
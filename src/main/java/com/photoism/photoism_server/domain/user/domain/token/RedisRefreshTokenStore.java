@@ -0,0 +1,108 @@
+package com.photoism.photoism_server.domain.user.domain.token;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 호환 서버에 리프레시 토큰을 보관하는 저장소입니다. (refresh-token.store=redis)
+ * 접속 정보는 spring.data.redis.* 설정을 따르므로 테스트에서는 임베디드 서버를 가리키도록 할 수 있습니다.
+ * 토큰은 해시 타입으로 저장하고 만료 시각에 맞춰 TTL을 걸어 Redis가 직접 정리하게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh-token:";
+    private static final String FAMILY_KEY_PREFIX = "refresh-token-family:";
+
+    // 토큰 저장과 TTL 설정 (KEYS[1]: 토큰, KEYS[2]: family)
+    private static final String SAVE = "redis.call('HSET', KEYS[1], 'memberId', ARGV[1], 'familyId', ARGV[2], "
+            + "'expiresAt', ARGV[3], 'inDatabase', ARGV[6]) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+            + "redis.call('SADD', KEYS[2], ARGV[5]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " // family는 가장 최근 토큰의 만료 시각까지 유지
+            + "return 1";
+
+    // 한 번에 실행해 중간에 실패해도 TTL 없는 키가 남지 않도록
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(SAVE, Long.class);
+
+    // 사용한 토큰(KEYS[3])이 있고 처음 사용될 때만(HSETNX 결과 1) 다음 토큰을 저장
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[3]) == 0 then return 0 end "
+                    + "if redis.call('HSETNX', KEYS[3], 'used', '1') == 0 then return 0 end "
+                    + SAVE,
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(RefreshToken token) {
+        Duration ttl = Duration.between(Instant.now(), token.expiresAt());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        redisTemplate.execute(SAVE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + token.tokenHash(), FAMILY_KEY_PREFIX + token.familyId()),
+                saveArgs(token, ttl));
+    }
+
+    @Override
+    public Optional<RefreshToken> find(String tokenHash) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(
+                TOKEN_KEY_PREFIX + tokenHash, List.of("memberId", "familyId", "expiresAt", "used", "inDatabase"));
+        if (values.get(0) == null) {
+            return Optional.empty();
+        }
+        RefreshToken token = new RefreshToken(
+                tokenHash,
+                Long.valueOf((String) values.get(0)),
+                (String) values.get(1),
+                Instant.ofEpochMilli(Long.parseLong((String) values.get(2))),
+                values.get(3) != null,
+                "1".equals(values.get(4))
+        );
+        return token.isExpired(Instant.now()) ? Optional.empty() : Optional.of(token);
+    }
+
+    @Override
+    public boolean rotate(String usedTokenHash, RefreshToken next) {
+        Duration ttl = Duration.between(Instant.now(), next.expiresAt());
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + next.tokenHash(), FAMILY_KEY_PREFIX + next.familyId(),
+                        TOKEN_KEY_PREFIX + usedTokenHash),
+                saveArgs(next, ttl.isNegative() || ttl.isZero() ? Duration.ofMillis(1) : ttl));
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        String familyKey = FAMILY_KEY_PREFIX + familyId;
+        Set<String> hashes = redisTemplate.opsForSet().members(familyKey);
+        if (hashes != null && !hashes.isEmpty()) {
+            redisTemplate.delete(hashes.stream().map(hash -> TOKEN_KEY_PREFIX + hash).toList());
+        }
+        redisTemplate.delete(familyKey);
+    }
+
+    private static Object[] saveArgs(RefreshToken token, Duration ttl) {
+        return new Object[]{
+                String.valueOf(token.memberId()),
+                token.familyId(),
+                String.valueOf(token.expiresAt().toEpochMilli()),
+                String.valueOf(ttl.toMillis()),
+                token.tokenHash(),
+                token.inDatabase() ? "1" : "0"
+        };
+    }
+}
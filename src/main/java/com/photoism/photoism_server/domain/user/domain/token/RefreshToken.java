@@ -0,0 +1,29 @@
+package com.photoism.photoism_server.domain.user.domain.token;
+
+import java.time.Instant;
+
+// 발급된 리프레시 토큰 한 건. 같은 로그인에서 회전(rotation)으로 이어진 토큰들은 같은 familyId를 가짐
+public record RefreshToken(
+        String tokenHash,  // 토큰 원문의 SHA-256 해시
+        Long memberId,
+        String familyId,
+        Instant expiresAt,
+        boolean used,  // 이미 새 토큰으로 교환되었는지 여부
+        boolean inDatabase  // 해시가 DB(user.refresh_token_hash)에도 기록된 토큰 (로그인, 복구로 발급)
+) {
+    public static RefreshToken issued(String tokenHash, Long memberId, String familyId, Instant expiresAt) {
+        return new RefreshToken(tokenHash, memberId, familyId, expiresAt, false, false);
+    }
+
+    public static RefreshToken recorded(String tokenHash, Long memberId, String familyId, Instant expiresAt) {
+        return new RefreshToken(tokenHash, memberId, familyId, expiresAt, false, true);
+    }
+
+    public RefreshToken markUsed() {
+        return new RefreshToken(tokenHash, memberId, familyId, expiresAt, true, inDatabase);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
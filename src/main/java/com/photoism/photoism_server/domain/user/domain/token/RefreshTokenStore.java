@@ -0,0 +1,31 @@
+package com.photoism.photoism_server.domain.user.domain.token;
+
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소입니다. 토큰 갱신 요청은 관계형 DB 대신 이 저장소만 사용합니다.
+ * 기본 구현은 프로세스 내 메모리(InMemoryRefreshTokenStore)이며,
+ * refresh-token.store=redis 로 Redis 호환 서버(RedisRefreshTokenStore)를 사용할 수 있습니다.
+ */
+public interface RefreshTokenStore {
+
+    void save(RefreshToken token);
+
+    /**
+     * 만료되지 않은 토큰을 조회합니다.
+     */
+    Optional<RefreshToken> find(String tokenHash);
+
+    /**
+     * 사용한 토큰을 사용 처리하고 그 자리에 다음 토큰을 저장합니다. 두 작업은 함께 원자적으로 실행됩니다.
+     * 같은 토큰으로 동시에 회전을 시도하면 한 요청만 성공합니다.
+     *
+     * @return 이번에 처음 사용 처리되었으면 true (다음 토큰 저장됨), 이미 사용되었거나 존재하지 않으면 false (아무것도 바꾸지 않음)
+     */
+    boolean rotate(String usedTokenHash, RefreshToken next);
+
+    /**
+     * 같은 family에 속한 토큰을 모두 폐기합니다. 토큰 재사용이 감지되었을 때 사용합니다.
+     */
+    void revokeFamily(String familyId);
+}
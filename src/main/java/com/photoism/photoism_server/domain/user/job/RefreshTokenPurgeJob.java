@@ -0,0 +1,42 @@
+package com.photoism.photoism_server.domain.user.job;
+
+import com.photoism.photoism_server.common.job.BatchPager;
+import com.photoism.photoism_server.common.job.MaintenanceJobProperties;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 리프레시 토큰 해시를 user 테이블에서 지웁니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class RefreshTokenPurgeJob extends QuartzJobBean {
+
+    private final UserRepository userRepository;
+    private final MaintenanceJobProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = properties.getBatchSize();
+        try {
+            long purged = BatchPager.run(transactionTemplate, batchSize, properties.getPauseBetweenBatches(),
+                    lastId -> userRepository.findIdsWithRefreshTokenExpiredBefore(now, lastId, PageRequest.of(0, batchSize)),
+                    Long::longValue,
+                    ids -> userRepository.clearExpiredRefreshTokens(ids, now));
+            log.info("만료된 리프레시 토큰 {}건 정리", purged);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
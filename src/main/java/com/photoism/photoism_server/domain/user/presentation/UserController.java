@@ -1,12 +1,18 @@
 package com.photoism.photoism_server.domain.user.presentation;
 
+import com.photoism.photoism_server.common.dto.TokenResponse;
+import com.photoism.photoism_server.common.util.AuthenticationUtil;
 import com.photoism.photoism_server.domain.user.presentation.dto.request.LoginRequest;
 import com.photoism.photoism_server.domain.user.presentation.dto.request.SignUpRequest;
+import com.photoism.photoism_server.domain.user.presentation.dto.request.TokenRefreshRequest;
 import com.photoism.photoism_server.domain.user.presentation.dto.response.LoginResponse;
+import com.photoism.photoism_server.domain.user.presentation.dto.response.OpaqueTokenResponse;
+import com.photoism.photoism_server.domain.user.service.KioskSessionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import com.photoism.photoism_server.domain.user.service.UserService;
@@ -16,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService; // UserService 의존성 주입
+    private final KioskSessionService kioskSessionService;
 
     @PostMapping("/signup")
     public ResponseEntity<Void> signUpParent(
@@ -29,4 +36,25 @@ public class UserController {
         return ResponseEntity.ok(userService.login(req.email(),req.password()));
     }
 
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody TokenRefreshRequest req) {
+        return ResponseEntity.ok(userService.refresh(req.refreshToken()));
+    }
+
+    // JWT로 인증된 사용자가 키오스크 기기용 불투명 토큰을 발급받음
+    @PostMapping("/token/opaque")
+    public ResponseEntity<OpaqueTokenResponse> issueOpaqueToken() {
+        return ResponseEntity.ok(kioskSessionService.issue(AuthenticationUtil.getMemberId()));
+    }
+
+    // 사용자의 모든 키오스크 세션을 폐기
+    @DeleteMapping("/token/opaque")
+    public ResponseEntity<Void> revokeOpaqueTokens() {
+        Long memberId = AuthenticationUtil.getMemberId();
+        if (memberId != null) {
+            kioskSessionService.revokeAll(memberId);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
 }
@@ -1,4 +1,6 @@
 package com.photoism.photoism_server.domain.user.presentation.dto.request;
 
-public record TokenRefreshRequest() {
+public record TokenRefreshRequest(
+        String refreshToken
+) {
 }
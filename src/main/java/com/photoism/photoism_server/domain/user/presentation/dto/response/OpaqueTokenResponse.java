@@ -0,0 +1,7 @@
+package com.photoism.photoism_server.domain.user.presentation.dto.response;
+
+public record OpaqueTokenResponse(
+        String accessToken,
+        int expiresIn  // 유효 시간(초)
+) {
+}
@@ -0,0 +1,38 @@
+package com.photoism.photoism_server.domain.user.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.common.filter.OpaqueTokenProperties;
+import com.photoism.photoism_server.common.filter.OpaqueTokenSessionIndex;
+import com.photoism.photoism_server.domain.user.presentation.dto.response.OpaqueTokenResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 키오스크 기기용 불투명 토큰 세션을 발급/폐기하는 서비스입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class KioskSessionService {
+
+    private static final String[] KIOSK_ROLES = {"ROLE_USER"};
+    private static final String KIOSK_PROVIDER = "kiosk";
+
+    private final OpaqueTokenSessionIndex sessionIndex;
+    private final OpaqueTokenProperties opaqueTokenProperties;
+
+    public OpaqueTokenResponse issue(Long memberId) {
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (!opaqueTokenProperties.isEnabled()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        String token = sessionIndex.issue(memberId, KIOSK_ROLES, KIOSK_PROVIDER);
+        return new OpaqueTokenResponse(token, opaqueTokenProperties.getTtlSeconds());
+    }
+
+    public int revokeAll(Long memberId) {
+        return sessionIndex.revokeByMemberId(memberId);
+    }
+}
@@ -0,0 +1,133 @@
+package com.photoism.photoism_server.domain.user.service;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.photoism.photoism_server.common.dto.TokenResponse;
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.common.jwt.Jwt;
+import com.photoism.photoism_server.common.util.TokenHashUtil;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import com.photoism.photoism_server.domain.user.domain.token.RefreshToken;
+import com.photoism.photoism_server.domain.user.domain.token.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급과 회전(rotation)을 담당하는 서비스입니다.
+ * 회전은 RefreshTokenStore에서 사용 처리와 다음 토큰 저장을 한 번에(compare-and-set) 하므로 보통은 DB를 쓰지 않습니다.
+ * 이미 교환된 토큰이 다시 사용되면 탈취로 간주하고 같은 family의 토큰과 DB의 해시를 모두 폐기합니다.
+ *
+ * 로그인으로 발급한 토큰만 해시를 DB(user.refresh_token_hash)에도 기록해, 저장소에 기록이 없을 때(재기동, 다른 노드의 메모리 저장소)
+ * 복구할 수 있게 합니다. 이 토큰은 처음 교환할 때 DB의 해시를 compare-and-set으로 지우므로, 이미 교환된 로그인 토큰은
+ * 어느 노드에서도 다시 복구되지 않습니다. (DB 쓰기는 로그인마다 한 번) 그 뒤의 토큰은 저장소에만 있으므로,
+ * 메모리 저장소를 쓰면 재기동하거나 다른 노드로 요청이 가면 다시 로그인해야 합니다. 여러 노드에서는 refresh-token.store=redis 를 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserRepository userRepository;
+    private final Jwt jwt;
+
+    /**
+     * 로그인 시 새 family로 토큰을 발급합니다.
+     */
+    public TokenResponse issue(Long memberId) {
+        return issue(memberId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 새 액세스/리프레시 토큰으로 교환합니다. 사용한 리프레시 토큰은 다시 쓸 수 없습니다.
+     */
+    public TokenResponse rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        try {
+            jwt.verify(refreshToken); // 서명과 만료 시간 확인
+        } catch (JWTVerificationException e) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        String tokenHash = TokenHashUtil.sha256Hex(refreshToken);
+        RefreshToken stored = refreshTokenStore.find(tokenHash)
+                .orElseGet(() -> restoreFromDatabase(tokenHash));
+        if (stored.used()) {
+            throw reused(stored);
+        }
+
+        TokenResponse tokenResponse = jwt.generateAllToken(Jwt.Claims.from(stored.memberId()));
+        RefreshToken next = RefreshToken.issued(
+                TokenHashUtil.sha256Hex(tokenResponse.refreshToken()),
+                stored.memberId(),
+                stored.familyId(),
+                Instant.now().plusSeconds(jwt.getRefreshTokenExpire())
+        );
+        if (!refreshTokenStore.rotate(tokenHash, next)) {
+            // 이미 교환된 토큰의 재사용: 같은 로그인에서 파생된 토큰을 모두 폐기
+            throw reused(stored);
+        }
+        // DB에 기록된 토큰이면 DB의 해시가 아직 이 토큰일 때만 지움 (다른 노드나 재기동 전에 이미 교환됐다면 0건)
+        if (stored.inDatabase() && userRepository.replaceRefreshToken(stored.memberId(), tokenHash, null, null) == 0) {
+            throw reused(stored);
+        }
+        return tokenResponse;
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return Duration.ofSeconds(jwt.getRefreshTokenExpire());
+    }
+
+    private TokenResponse issue(Long memberId, String familyId) {
+        TokenResponse tokenResponse = jwt.generateAllToken(Jwt.Claims.from(memberId));
+        RefreshToken token = RefreshToken.recorded(
+                TokenHashUtil.sha256Hex(tokenResponse.refreshToken()),
+                memberId,
+                familyId,
+                Instant.now().plusSeconds(jwt.getRefreshTokenExpire())
+        );
+        // 로그인은 이전 토큰과 상관없이 현재 토큰을 덮어씀
+        userRepository.updateRefreshToken(memberId, token.tokenHash(), toDateTime(token));
+        refreshTokenStore.save(token);
+        return tokenResponse;
+    }
+
+    private BusinessException reused(RefreshToken stored) {
+        log.warn("리프레시 토큰 재사용 감지: memberId={}, familyId={}", stored.memberId(), stored.familyId());
+        refreshTokenStore.revokeFamily(stored.familyId());
+        userRepository.updateRefreshToken(stored.memberId(), null, null);
+        return new BusinessException(ErrorCode.REFRESH_TOKEN_REUSED);
+    }
+
+    // 저장소에 기록이 없는 토큰은 DB의 해시와 같을 때만 새 family로 복구합니다. (콜드 경로)
+    // 복구한 토큰도 교환 시 DB 해시를 compare-and-set으로 지우므로, 여러 노드가 같은 토큰을 복구해도 한 곳만 성공합니다.
+    private RefreshToken restoreFromDatabase(String tokenHash) {
+        return userRepository.findByRefreshTokenHash(tokenHash)
+                .filter(user -> user.getRefreshTokenExpiresAt() != null
+                        && user.getRefreshTokenExpiresAt().isAfter(LocalDateTime.now()))
+                .map(user -> {
+                    RefreshToken restored = RefreshToken.recorded(
+                            tokenHash,
+                            user.getId(),
+                            UUID.randomUUID().toString(),
+                            user.getRefreshTokenExpiresAt().atZone(ZoneId.systemDefault()).toInstant()
+                    );
+                    refreshTokenStore.save(restored);
+                    return restored;
+                })
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN));
+    }
+
+    private static LocalDateTime toDateTime(RefreshToken token) {
+        return LocalDateTime.ofInstant(token.expiresAt(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,94 @@
+-- 애플리케이션 테이블 초기 스키마
+-- ddl-auto: update 로 이미 테이블이 만들어진 DB에도 baseline(버전 0) 이후 적용되므로 IF NOT EXISTS 로만 생성합니다.
+-- 기존 DB에 빠져 있을 수 있는 인덱스는 V3(EnsureLookupIndexes)에서 확인 후 추가합니다.
+
+CREATE TABLE IF NOT EXISTS `user` (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255) NULL,
+    password VARCHAR(255) NULL,
+    email VARCHAR(255) NULL,
+    refresh_token_hash VARCHAR(64) NULL,
+    refresh_token_expires_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_user_email (email),
+    INDEX idx_user_refresh_token_hash (refresh_token_hash),
+    INDEX idx_user_refresh_token_expires_at (refresh_token_expires_at)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS image (
+    id BIGINT NOT NULL,
+    url VARCHAR(255) NULL,
+    content_hash VARCHAR(64) NULL,
+    file_size BIGINT NULL,
+    content_type VARCHAR(255) NULL,
+    created_at DATETIME(6) NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS image_blob (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    hash VARCHAR(64) NOT NULL,
+    file_size BIGINT NULL,
+    content_type VARCHAR(255) NULL,
+    ref_count INTEGER NOT NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_image_blob_hash (hash)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS photo_book (
+    id BIGINT NOT NULL,
+    photo_url VARCHAR(255) NULL,
+    content_hash VARCHAR(64) NULL,
+    thumbnail_url VARCHAR(255) NULL,
+    user_id BIGINT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_photo_book_photo_url (photo_url),
+    INDEX idx_photo_book_user_id_id (user_id, id),
+    CONSTRAINT fk_photo_book_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS correction (
+    id BIGINT NOT NULL,
+    shape TINYINT NULL,
+    skin TINYINT NULL,
+    eye_size BIGINT NULL,
+    eye_angle BIGINT NULL,
+    ala BIGINT NULL,
+    nasal_bridge BIGINT NULL,
+    upper BIGINT NULL,
+    lower BIGINT NULL,
+    user_id BIGINT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_correction_user_id (user_id),
+    CONSTRAINT fk_correction_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS sms_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    dedupe_key VARCHAR(100) NOT NULL,
+    recipient VARCHAR(20) NOT NULL,
+    text VARCHAR(2000) NOT NULL,
+    status ENUM ('PENDING','SENDING','SENT','FAILED','DUPLICATE') NOT NULL,
+    attempts INTEGER NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500) NULL,
+    sent_at DATETIME(6) NULL,
+    created_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_sms_outbox_dedupe_key (dedupe_key),
+    INDEX idx_sms_outbox_status_next_attempt_at (status, next_attempt_at)
+) ENGINE=InnoDB;
+
+-- image, photo_book, correction의 pooled 테이블 ID 생성기 (TableIdGenerators)
+CREATE TABLE IF NOT EXISTS hibernate_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT NULL,
+    PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB;
+
+-- IDENTITY로 만든 기존 행과 겹치지 않도록 현재 최대 id보다 한 블록(50) 이상 큰 값에서 시작 (이미 있으면 그대로 둠)
+INSERT IGNORE INTO hibernate_sequences (sequence_name, next_val) SELECT 'image', COALESCE(MAX(id), 0) + 51 FROM image;
+INSERT IGNORE INTO hibernate_sequences (sequence_name, next_val) SELECT 'photo_book', COALESCE(MAX(id), 0) + 51 FROM photo_book;
+INSERT IGNORE INTO hibernate_sequences (sequence_name, next_val) SELECT 'correction', COALESCE(MAX(id), 0) + 51 FROM correction;
@@ -0,0 +1,2 @@
+-- 발송 임대 시각: 기동한 노드가 다른 노드에서 발송 중인 메시지를 대기로 되돌리지 않도록, 임대 시간이 지난 행만 회수
+ALTER TABLE sms_outbox ADD COLUMN claimed_at DATETIME(6) NULL;
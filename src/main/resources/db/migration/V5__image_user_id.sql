@@ -0,0 +1,4 @@
+-- 이미지를 업로드한 회원: 본인이 올린 이미지만 포토북에 담을 수 있도록 기록
+-- 이 컬럼 전에 만들어진 이미지는 업로드한 회원을 알 수 없으므로 NULL로 남고 새로 담을 수 없음 (이미 담긴 포토북 행은 그대로 유지)
+ALTER TABLE image ADD COLUMN user_id BIGINT NULL;
+ALTER TABLE image ADD CONSTRAINT fk_image_user FOREIGN KEY (user_id) REFERENCES `user` (id);
@@ -0,0 +1,7 @@
+-- 포토북 목록 정렬 기준: 미리 할당받은 ID는 노드마다 다른 블록에서 나오므로 저장 순서와 맞지 않아 저장 시각으로 정렬
+-- 기존 행은 모두 이 마이그레이션 시각으로 채워지며, 같은 시각끼리는 id 순서(IDENTITY 시절의 저장 순서)를 따름
+ALTER TABLE photo_book ADD COLUMN created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- 목록 keyset 인덱스를 (user_id, created_at, id)로 교체 (user_id 외래 키용 인덱스를 먼저 만든 뒤 기존 인덱스 삭제)
+CREATE INDEX idx_photo_book_user_id_created_at_id ON photo_book (user_id, created_at, id);
+DROP INDEX idx_photo_book_user_id_id ON photo_book;
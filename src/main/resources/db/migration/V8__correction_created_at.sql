@@ -0,0 +1,16 @@
+-- 최신 프리셋 판단 기준: 미리 할당받은 ID는 노드마다 다른 블록에서 나오므로 저장 순서와 맞지 않아 저장 시각으로 판단
+-- 기존 행은 모두 이 마이그레이션 시각으로 채워지며, 같은 시각끼리는 id 순서(IDENTITY 시절의 저장 순서)를 따름
+ALTER TABLE correction ADD COLUMN created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- 프리셋 조회 인덱스를 (user_id, created_at, id)로 교체 (user_id 외래 키용 인덱스를 먼저 만든 뒤 기존 인덱스 삭제)
+CREATE INDEX idx_correction_user_id_created_at_id ON correction (user_id, created_at, id);
+
+-- ddl-auto로 만든 DB는 외래 키 인덱스가 같은 컬럼이라 V3가 idx_correction_user_id를 만들지 않았을 수 있으므로 있을 때만 삭제
+-- (MySQL에는 DROP INDEX IF EXISTS가 없음)
+SET @drop_index = (SELECT IF(COUNT(*) > 0, 'DROP INDEX idx_correction_user_id ON correction', 'DO 0')
+                   FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = 'correction'
+                     AND index_name = 'idx_correction_user_id');
+PREPARE drop_index FROM @drop_index;
+EXECUTE drop_index;
+DEALLOCATE PREPARE drop_index;
@@ -0,0 +1,128 @@
+package com.photoism.photoism_server.common.datasource;
+
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepositoryImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 전용 트랜잭션만 복제본으로 보내고, 사용 가능한 복제본 사이에서는 돌아가며 고르며,
+ * 쓸 수 있는 복제본이 없으면 primary로 읽는지 확인합니다. (복제본 풀은 연결을 만들지 않음)
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private ReplicaDataSource replica0;
+    private ReplicaDataSource replica1;
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        replica0 = new ReplicaDataSource("replica-0", new HikariDataSource());
+        replica1 = new ReplicaDataSource("replica-1", new HikariDataSource());
+        routing = new ReadWriteRoutingDataSource(Mockito.mock(DataSource.class), List.of(replica0, replica1));
+        replica0.update(true, 0);
+        replica1.update(true, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writesAndNonTransactionalReadsGoToPrimary() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinOverReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(lookups(4)).containsExactly("replica-0", "replica-1", "replica-0", "replica-1");
+    }
+
+    @Test
+    void skipsLaggingReplicaAndFallsBackToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        replica0.update(false, 30); // 지연 초과
+        assertThat(lookups(3)).containsOnly("replica-1");
+
+        replica1.update(false, -1); // 연결 실패
+        assertThat(lookups(2)).containsOnly(ReadWriteRoutingDataSource.PRIMARY);
+
+        replica0.update(true, 0); // 따라잡으면 다시 사용
+        assertThat(lookups(2)).containsOnly("replica-0");
+    }
+
+    @Test
+    void routesToPrimaryWithoutReplicas() {
+        ReadWriteRoutingDataSource primaryOnly = new ReadWriteRoutingDataSource(Mockito.mock(DataSource.class), List.of());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(primaryOnly.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readOnlyTransactionTemplateIsRoutedToReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(new NoOpTransactionManager());
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(new NoOpTransactionManager());
+
+        assertThat(readOnly.execute(status -> routing.determineCurrentLookupKey())).isEqualTo("replica-0");
+        assertThat(readWrite.execute(status -> routing.determineCurrentLookupKey()))
+                .isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+        // 트랜잭션이 끝나면 다시 primary
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void loginLookupIsReadOnly() throws NoSuchMethodException {
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(
+                UserRepositoryImpl.class.getMethod("findByEmail", String.class), Transactional.class);
+
+        // 로그인 조회(findByEmail)는 복제본에서 읽음
+        assertThat(transactional).isNotNull();
+        assertThat(transactional.readOnly()).isTrue();
+    }
+
+    private List<Object> lookups(int count) {
+        return IntStream.range(0, count).mapToObj(i -> routing.determineCurrentLookupKey()).toList();
+    }
+
+    // 연결 없이 트랜잭션 동기화(읽기 전용 여부)만 설정하는 트랜잭션 매니저
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
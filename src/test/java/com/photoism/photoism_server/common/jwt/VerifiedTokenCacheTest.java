@@ -0,0 +1,111 @@
+package com.photoism.photoism_server.common.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 검증된 토큰만 exp까지 캐시하고, 만료된 토큰은 다시 검증하며, 가득 차면 만료된 항목부터 비워 최대 크기를 지키는지 확인합니다.
+ */
+class VerifiedTokenCacheTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void servesCachedClaimsAndCountsHitsAndMisses() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Function<String, Jwt.Claims> verifier = verifierExpiringIn(HOUR);
+
+        Jwt.Claims first = cache.verify("token-a", verifier);
+        Jwt.Claims second = cache.verify("token-a", verifier);
+        cache.verify("token-b", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredTokenIsVerifiedAgainInsteadOfServed() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.verify("token", verifierExpiringIn(-1000));
+
+        // 캐시에 있어도 exp가 지났으면 검증기를 다시 호출하고, 검증 실패는 그대로 전파
+        assertThatThrownBy(() -> cache.verify("token", token -> {
+            throw new IllegalStateException("만료된 토큰");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void tokensWithoutExpAreNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Function<String, Jwt.Claims> verifier = token -> {
+            verifications.incrementAndGet();
+            return Jwt.Claims.from(1L);
+        };
+
+        cache.verify("token", verifier);
+        cache.verify("token", verifier);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsExpiredEntriesFirstWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        for (int i = 0; i < 5; i++) {
+            cache.verify("expired-" + i, verifierExpiringIn(-1000));
+            cache.verify("valid-" + i, verifierExpiringIn(HOUR));
+        }
+
+        cache.verify("new", verifierExpiringIn(HOUR));
+
+        assertThat(cache.size()).isEqualTo(6);
+        long hits = cache.getHitCount();
+        for (int i = 0; i < 5; i++) {
+            cache.verify("valid-" + i, verifierExpiringIn(HOUR));
+        }
+        assertThat(cache.getHitCount()).isEqualTo(hits + 5);
+    }
+
+    @Test
+    void neverGrowsPastMaxSize() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Function<String, Jwt.Claims> verifier = verifierExpiringIn(HOUR);
+
+        for (int i = 0; i < 100; i++) {
+            cache.verify("token-" + i, verifier);
+            assertThat(cache.size()).isLessThanOrEqualTo(10);
+        }
+        // 마지막으로 넣은 토큰은 남아 있음
+        cache.verify("token-99", verifier);
+        assertThat(verifications).hasValue(100);
+    }
+
+    @Test
+    void rejectsNonPositiveMaxSize() {
+        assertThatThrownBy(() -> new VerifiedTokenCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Function<String, Jwt.Claims> verifierExpiringIn(long millis) {
+        return token -> {
+            verifications.incrementAndGet();
+            Jwt.Claims claims = Jwt.Claims.from(1L);
+            claims.exp = new Date(System.currentTimeMillis() + millis);
+            return claims;
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.photoism.photoism_server.common.migration;
+
+import com.photoism.photoism_server.domain.user.domain.entity.User;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import com.photoism.photoism_server.support.RepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 도입 전 ddl-auto: update 로 만든 DB(db/legacy/ddl_auto_schema.sql)에 마이그레이션을 적용하면
+ * 빠진 컬럼과 인덱스가 추가되고, 기동 시 스키마 검증(ddl-auto: validate)을 통과하며 기존 데이터가 남는지 확인합니다.
+ * (컨텍스트가 뜨면 검증은 통과한 것)
+ */
+@RepositoryTest
+@Import({V1_1__AddMissingColumns.class, V3__EnsureLookupIndexes.class, LegacySchemaUpgradeTest.LegacySchema.class})
+class LegacySchemaUpgradeTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void addsColumnsMissingFromDdlAutoSchema() {
+        assertThat(columns("user")).contains("refresh_token_hash", "refresh_token_expires_at")
+                .doesNotContain("refresh_token");
+        assertThat(columns("image")).contains("content_hash", "file_size", "content_type", "created_at", "user_id");
+        assertThat(columns("photo_book")).contains("content_hash", "thumbnail_url", "created_at");
+        assertThat(columns("correction")).contains("created_at");
+        assertThat(jdbcTemplate.queryForList(
+                "select index_name from information_schema.statistics "
+                        + "where table_schema = database() and table_name = 'user' and column_name = 'refresh_token_hash'",
+                String.class)).isNotEmpty();
+    }
+
+    @Test
+    void keepsExistingRows() {
+        User user = userRepository.findByEmail("legacy@test").orElseThrow();
+
+        assertThat(user.getId()).isEqualTo(7L);
+        assertThat(user.getRefreshTokenHash()).isNull(); // 예전 토큰은 옮기지 않음 (다시 로그인)
+        assertThat(jdbcTemplate.queryForObject("select photo_url from photo_book where id = 80", String.class))
+                .isEqualTo("/files/legacy.jpg");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from image where id = 120", Integer.class)).isOne();
+    }
+
+    @Test
+    void startsPooledIdsAboveExistingRows() {
+        assertThat(nextId("image")).isGreaterThan(120L);
+        assertThat(nextId("photo_book")).isGreaterThan(80L);
+        assertThat(nextId("correction")).isGreaterThan(30L);
+    }
+
+    private List<String> columns(String table) {
+        return jdbcTemplate.queryForList(
+                "select column_name from information_schema.columns where table_schema = database() and table_name = ?",
+                String.class, table);
+    }
+
+    private Long nextId(String sequence) {
+        return jdbcTemplate.queryForObject(
+                "select next_val from hibernate_sequences where sequence_name = ?", Long.class, sequence);
+    }
+
+    // Flyway를 실행하기 전에 빈 DB를 ddl-auto 시절 스키마로 만들어 둠
+    @TestConfiguration(proxyBeanMethods = false)
+    static class LegacySchema {
+
+        @Bean
+        FlywayMigrationStrategy legacySchemaFirst() {
+            return flyway -> {
+                try (Connection connection = flyway.getConfiguration().getDataSource().getConnection()) {
+                    ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/legacy/ddl_auto_schema.sql"));
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                flyway.migrate();
+            };
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+import com.photoism.photoism_server.domain.correction.domain.enums.Skin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 항등 프리셋은 픽셀을 그대로 두고, 타일 크기와 무관하게 같은 결과를 내며, 고정소수점 보간이 경계 가중치에서 정확한지 확인합니다.
+ */
+class CorrectionEngineTest {
+
+    private static final int WIDTH = 97;
+    private static final int HEIGHT = 61;
+    private static final CorrectionPreset IDENTITY = new CorrectionPreset(null, null, 0, 0, 0, 0, 0, 0);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final PresetTables tables = PresetTables.build(16);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void identityPresetReturnsPixelsUnchanged() {
+        int[] src = randomPixels();
+        int[] dst = new int[src.length];
+
+        new CorrectionEngine(pool, tables, 256).apply(src, dst, WIDTH, HEIGHT, IDENTITY);
+
+        assertThat(dst).isEqualTo(src);
+    }
+
+    @Test
+    void identityPresetRoundTripsBufferedImage() {
+        BufferedImage source = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, WIDTH, HEIGHT, randomPixels(), 0, WIDTH);
+
+        BufferedImage output = new CorrectionEngine(pool, tables).apply(source, IDENTITY);
+
+        assertThat(output.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH))
+                .isEqualTo(source.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH));
+    }
+
+    @Test
+    void tiledOutputEqualsSingleTileOutput() {
+        int[] src = randomPixels();
+        for (CorrectionPreset preset : new CorrectionPreset[]{
+                new CorrectionPreset(Skin.PINK, null, 0, 0, 0, 0, 0, 0), // 색만
+                new CorrectionPreset(Skin.WARM, Shape.BABY, 0, 0, 0, 0, 0, 0), // 공유 메시
+                new CorrectionPreset(Skin.LIGHT, Shape.SLIM, 5, -3, 2, 4, -1, 6)}) { // 메시 사본 + 세부 보정
+            int[] single = new int[src.length];
+            int[] tiled = new int[src.length];
+
+            new CorrectionEngine(pool, tables, Integer.MAX_VALUE).apply(src, single, WIDTH, HEIGHT, preset);
+            new CorrectionEngine(pool, tables, 37).apply(src, tiled, WIDTH, HEIGHT, preset);
+
+            assertThat(tiled).as(preset.toString()).isEqualTo(single);
+        }
+    }
+
+    @Test
+    void lerpRgbAtBoundaryWeights() {
+        int a = 0x102030;
+        int b = 0xf0e0d0;
+
+        assertThat(CorrectionEngine.lerpRgb(a, b, 0)).isEqualTo(a);
+        assertThat(CorrectionEngine.lerpRgb(a, b, 128)).isEqualTo(0x808080);
+        assertThat(CorrectionEngine.lerpRgb(a, b, 256)).isEqualTo(b);
+        // 채널이 최댓값이어도 옆 채널로 넘치지 않음
+        assertThat(CorrectionEngine.lerpRgb(0xffffff, 0x000000, 0)).isEqualTo(0xffffff);
+        assertThat(CorrectionEngine.lerpRgb(0xffffff, 0x000000, 128)).isEqualTo(0x7f7f7f);
+        assertThat(CorrectionEngine.lerpRgb(0x000000, 0xffffff, 256)).isEqualTo(0xffffff);
+    }
+
+    @Test
+    void sampleAtPixelCentersReturnsThePixel() {
+        int[] src = randomPixels();
+
+        for (int y = 0; y < HEIGHT; y += 7) {
+            for (int x = 0; x < WIDTH; x += 5) {
+                assertThat(CorrectionEngine.sample(src, WIDTH, HEIGHT, x, y)).isEqualTo(src[y * WIDTH + x]);
+            }
+        }
+        // 범위 밖 좌표는 가장자리 픽셀
+        assertThat(CorrectionEngine.sample(src, WIDTH, HEIGHT, -3f, -3f)).isEqualTo(src[0]);
+        assertThat(CorrectionEngine.sample(src, WIDTH, HEIGHT, WIDTH + 3f, HEIGHT + 3f))
+                .isEqualTo(src[WIDTH * HEIGHT - 1]);
+    }
+
+    @Test
+    void rejectsArraysSmallerThanImage() {
+        CorrectionEngine engine = new CorrectionEngine(pool, tables);
+
+        assertThatThrownBy(() -> engine.apply(new int[10], new int[WIDTH * HEIGHT], WIDTH, HEIGHT, IDENTITY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 피부색 범위 안팎이 섞이도록 고정 시드로 만든 픽셀
+    private static int[] randomPixels() {
+        Random random = new Random(42);
+        int[] pixels = new int[WIDTH * HEIGHT];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt(0x1000000);
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,55 @@
+package com.photoism.photoism_server.domain.correction.engine;
+
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+import com.photoism.photoism_server.domain.correction.domain.enums.Skin;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 값이 없는 프리셋은 항등 테이블/메시를 쓰고, 공유 메시는 고정되어 사본으로만 변경할 수 있는지 확인합니다.
+ */
+class PresetTablesTest {
+
+    private final PresetTables tables = PresetTables.build(8);
+
+    @Test
+    void missingPresetUsesIdentityEntry() {
+        SkinToneLut lut = tables.lut(null);
+        for (int r = 0; r < 256; r += 3) {
+            for (int g = 0; g < 256; g += 3) {
+                for (int b = 0; b < 256; b += 3) {
+                    int rgb = r << 16 | g << 8 | b;
+                    assertThat(lut.apply(rgb)).isEqualTo(rgb);
+                }
+            }
+        }
+        assertThat(tables.mesh(null).isIdentity()).isTrue();
+        assertThat(tables.mesh(null).cells()).isEqualTo(8);
+    }
+
+    @Test
+    void everyPresetHasItsOwnEntry() {
+        for (Skin skin : Skin.values()) {
+            assertThat(tables.lut(skin)).as(skin.name()).isNotSameAs(tables.lut(null));
+        }
+        for (Shape shape : Shape.values()) {
+            assertThat(tables.mesh(shape).isIdentity()).as(shape.name()).isFalse();
+        }
+        assertThat(tables.combinations()).isEqualTo(Skin.values().length * Shape.values().length);
+    }
+
+    @Test
+    void sharedMeshesAreFrozenAndCopiesAreMutable() {
+        WarpMesh shared = tables.mesh(Shape.SLIM);
+
+        assertThatThrownBy(() -> shared.bulge(0.5, 0.5, 0.3, 0.1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> tables.mesh(null).bulge(0.5, 0.5, 0.3, 0.1))
+                .isInstanceOf(IllegalStateException.class);
+
+        WarpMesh copy = shared.copy().bulge(0.5, 0.5, 0.3, 0.1);
+        assertThat(copy.offsets()).isNotEqualTo(shared.offsets());
+        assertThat(shared.offsets()).isEqualTo(CorrectionWarps.forShape(Shape.SLIM, 8).offsets());
+    }
+}
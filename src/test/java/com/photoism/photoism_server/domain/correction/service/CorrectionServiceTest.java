@@ -0,0 +1,139 @@
+package com.photoism.photoism_server.domain.correction.service;
+
+import com.photoism.photoism_server.domain.correction.cache.LocalCorrectionInvalidationBus;
+import com.photoism.photoism_server.domain.correction.domain.entity.Correction;
+import com.photoism.photoism_server.domain.correction.domain.enums.Shape;
+import com.photoism.photoism_server.domain.correction.domain.repository.CorrectionRepository;
+import com.photoism.photoism_server.domain.correction.engine.CorrectionProperties;
+import com.photoism.photoism_server.domain.correction.presentation.dto.request.CorrectionRequest;
+import com.photoism.photoism_server.domain.correction.presentation.dto.response.CorrectionResponse;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 프리셋 캐시: 없는 프리셋도 캐시하고, 커밋된 저장만 이 노드에 반영하며, 다른 노드의 캐시는 무효화 알림으로 비웁니다.
+ * 노드마다 CorrectionService를 따로 두고 DB(저장소 mock)와 무효화 채널만 공유합니다.
+ */
+class CorrectionServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final AtomicReference<Correction> latest = new AtomicReference<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final LocalCorrectionInvalidationBus bus = new LocalCorrectionInvalidationBus();
+    private final SynchronizingTransactionManager transactionManager = new SynchronizingTransactionManager();
+    private CorrectionRepository correctionRepository;
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        correctionRepository = Mockito.mock(CorrectionRepository.class);
+        userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(correctionRepository.save(any(Correction.class))).thenAnswer(inv -> {
+            Correction requested = inv.getArgument(0);
+            Correction saved = Correction.builder()
+                    .id(nextId.getAndIncrement())
+                    .shape(requested.getShape())
+                    .build();
+            latest.set(saved);
+            return saved;
+        });
+        Mockito.when(correctionRepository.findFirstByUserIdOrderByCreatedAtDescIdDesc(anyLong()))
+                .thenAnswer(inv -> Optional.ofNullable(latest.get()));
+    }
+
+    @Test
+    void cachesMissingPreset() {
+        CorrectionService node = newNode();
+
+        assertThat(node.findPreset(MEMBER_ID)).isEmpty();
+        assertThat(node.findPreset(MEMBER_ID)).isEmpty();
+
+        verify(correctionRepository, times(1)).findFirstByUserIdOrderByCreatedAtDescIdDesc(MEMBER_ID);
+    }
+
+    @Test
+    void savedPresetReplacesLocalCacheOnlyAfterCommit() {
+        CorrectionService node = newNode();
+        assertThat(node.findPreset(MEMBER_ID)).isEmpty();
+
+        inTransaction(() -> node.save(MEMBER_ID, request()), true);
+        // 롤백된 저장은 캐시에 반영되지 않음 (mock DB에는 남았지만 캐시된 빈 값이 그대로)
+        assertThat(node.findPreset(MEMBER_ID)).isEmpty();
+
+        CorrectionResponse saved = inTransaction(() -> node.save(MEMBER_ID, request()), false);
+        assertThat(node.findPreset(MEMBER_ID)).map(CorrectionResponse::id).contains(saved.id());
+        // 커밋 후 새 값을 바로 넣으므로 다시 읽지 않음
+        verify(correctionRepository, times(1)).findFirstByUserIdOrderByCreatedAtDescIdDesc(MEMBER_ID);
+    }
+
+    @Test
+    void saveOnOneNodeInvalidatesOtherNodes() {
+        CorrectionService nodeA = newNode();
+        CorrectionService nodeB = newNode();
+        assertThat(nodeB.findPreset(MEMBER_ID)).isEmpty();
+
+        CorrectionResponse saved = inTransaction(() -> nodeA.save(MEMBER_ID, request()), false);
+
+        assertThat(nodeB.findPreset(MEMBER_ID)).map(CorrectionResponse::id).contains(saved.id());
+        verify(correctionRepository, times(2)).findFirstByUserIdOrderByCreatedAtDescIdDesc(MEMBER_ID);
+    }
+
+    private CorrectionService newNode() {
+        return new CorrectionService(correctionRepository, userRepository, bus, new CorrectionProperties(),
+                transactionManager, new SimpleMeterRegistry());
+    }
+
+    private <T> T inTransaction(Supplier<T> action, boolean rollback) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            T result = action.get();
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+            return result;
+        });
+    }
+
+    private static CorrectionRequest request() {
+        return new CorrectionRequest(Shape.values()[0], null, 1L, null, null, null, null, null);
+    }
+
+    // 실제 연결 없이 트랜잭션 동기화(afterCommit)만 실행하는 트랜잭션 매니저
+    private static final class SynchronizingTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
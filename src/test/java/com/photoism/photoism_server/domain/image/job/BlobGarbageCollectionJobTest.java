@@ -0,0 +1,140 @@
+package com.photoism.photoism_server.domain.image.job;
+
+import com.photoism.photoism_server.common.job.MaintenanceJobProperties;
+import com.photoism.photoism_server.domain.image.domain.ImageBlob;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageBlobRepository;
+import com.photoism.photoism_server.domain.image.service.BlobDeletedEvent;
+import com.photoism.photoism_server.domain.image.storage.BlobStore;
+import com.photoism.photoism_server.domain.image.storage.ImageStorageProperties;
+import com.photoism.photoism_server.support.RepositoryTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * blob 참조 수 증감과, 참조가 0이고 유예 기간이 지난 blob만 지우는 GC.
+ * 참조 수 변경이 각자 커밋되어야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BlobGarbageCollectionJobTest {
+
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path root;
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private TransactionTemplate transactionTemplate;
+    private BlobStore blobStore;
+    private BlobGarbageCollectionJob job;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        ImageStorageProperties storageProperties = new ImageStorageProperties();
+        storageProperties.setRoot(root);
+        blobStore = new BlobStore(storageProperties);
+        MaintenanceJobProperties jobProperties = new MaintenanceJobProperties();
+        jobProperties.setBlobGcGracePeriod(Duration.ofDays(1));
+        jobProperties.setPauseBetweenBatches(Duration.ZERO);
+        job = new BlobGarbageCollectionJob(imageBlobRepository, blobStore, jobProperties, transactionTemplate,
+                events::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageBlobRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void acquireAndReleaseCountReferencesPerHash() {
+        String hash = hash('a');
+        inTransaction(() -> imageBlobRepository.acquire(hash, 10L, "image/jpeg"));
+        inTransaction(() -> imageBlobRepository.acquire(hash, 10L, "image/jpeg", 3));
+        assertThat(refCount(hash)).isEqualTo(4);
+
+        assertThat(inTransaction(() -> imageBlobRepository.release(hash, 3))).isEqualTo(1);
+        // 남은 참조보다 많이 줄이려 하면 아무것도 바꾸지 않음 (음수가 되지 않음)
+        assertThat(inTransaction(() -> imageBlobRepository.release(hash, 2))).isZero();
+        assertThat(refCount(hash)).isEqualTo(1);
+
+        // 참조 없이 등록해도 기존 참조 수는 그대로
+        inTransaction(() -> imageBlobRepository.register(hash, 10L, "image/jpeg"));
+        assertThat(refCount(hash)).isEqualTo(1);
+    }
+
+    @Test
+    void collectsOnlyUnreferencedBlobsPastGracePeriod() throws IOException {
+        String referenced = storedBlob('b', 1);
+        String expired = storedBlob('c', 0);
+        String recentlyReleased = storedBlob('d', 0);
+        ageBlobs(referenced, expired);
+
+        job.executeInternal(null);
+
+        assertThat(blobStore.exists(referenced)).isTrue();
+        assertThat(blobStore.exists(recentlyReleased)).isTrue();
+        assertThat(blobStore.exists(expired)).isFalse();
+        assertThat(imageBlobRepository.findAll()).extracting(ImageBlob::getHash)
+                .containsExactlyInAnyOrder(referenced, recentlyReleased);
+        assertThat(events).containsExactly(new BlobDeletedEvent(expired));
+    }
+
+    private String storedBlob(char c, int refCount) throws IOException {
+        String hash = hash(c);
+        Path temp = Files.createTempFile(root, "blob", ".part");
+        Files.writeString(temp, hash);
+        blobStore.storeIfAbsent(temp, hash);
+        inTransaction(() -> refCount > 0
+                ? imageBlobRepository.acquire(hash, 64L, "image/jpeg", refCount)
+                : imageBlobRepository.register(hash, 64L, "image/jpeg"));
+        return hash;
+    }
+
+    // 마지막 참조 변경 시각을 유예 기간(1일)보다 이전으로 옮김
+    private void ageBlobs(String... hashes) {
+        for (String hash : hashes) {
+            inTransaction(() -> entityManager.createNativeQuery(
+                            "update image_blob set updated_at = now() - interval 2 day where hash = :hash")
+                    .setParameter("hash", hash)
+                    .executeUpdate());
+        }
+    }
+
+    private int refCount(String hash) {
+        return imageBlobRepository.findByHash(hash).orElseThrow().getRefCount();
+    }
+
+    private int inTransaction(IntSupplier action) {
+        return transactionTemplate.execute(status -> action.getAsInt());
+    }
+
+    private static String hash(char c) {
+        return String.valueOf(c).repeat(64);
+    }
+}
@@ -0,0 +1,208 @@
+package com.photoism.photoism_server.domain.image.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageBlobRepository;
+import com.photoism.photoism_server.domain.image.storage.BlobStore;
+import com.photoism.photoism_server.domain.image.storage.ImageStorageProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Range / If-Range / If-None-Match 헤더 해석과 그에 따른 상태 코드, 헤더, 본문 범위.
+ */
+class ImageDownloadServiceTest {
+
+    private static final String HASH = "ab".repeat(32);
+    private static final String ETAG = "\"" + HASH + "\"";
+    private static final int SIZE = 100;
+
+    @TempDir
+    Path root;
+
+    private ImageDownloadService service;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ImageStorageProperties properties = new ImageStorageProperties();
+        properties.setRoot(root);
+        properties.setSendfileMinSize(DataSize.ofBytes(SIZE));
+        BlobStore blobStore = new BlobStore(properties);
+        ImageBlobRepository imageBlobRepository = Mockito.mock(ImageBlobRepository.class);
+        Mockito.when(imageBlobRepository.findContentTypeByHash(HASH)).thenReturn(Optional.of("image/jpeg"));
+        service = new ImageDownloadService(blobStore, imageBlobRepository, properties);
+
+        content = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            content[i] = (byte) i;
+        }
+        Path temp = Files.write(root.resolve("blob.part"), content);
+        blobStore.storeIfAbsent(temp, HASH);
+    }
+
+    @Test
+    void servesWholeFileWithoutRange() throws IOException {
+        MockHttpServletResponse response = serve(request());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getContentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void ifNoneMatchAnswersNotModifiedWithoutBody() throws IOException {
+        for (String ifNoneMatch : new String[]{ETAG, "W/" + ETAG, "\"other\", " + ETAG, "*"}) {
+            MockHttpServletRequest request = request();
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+
+            MockHttpServletResponse response = serve(request);
+
+            assertThat(response.getStatus()).as(ifNoneMatch).isEqualTo(304);
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+
+        MockHttpServletRequest other = request();
+        other.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + "cd".repeat(32) + "\"");
+        assertThat(serve(other).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void servesSatisfiableSingleRanges() throws IOException {
+        assertPartial("bytes=0-9", 0, 9);
+        assertPartial("bytes=90-", 90, 99);
+        assertPartial("bytes=-5", 95, 99);
+        assertPartial("bytes=-500", 0, 99); // 파일보다 긴 suffix는 전체
+        assertPartial("bytes=95-1000", 95, 99); // 끝은 파일 크기로 자름
+        assertPartial(" bytes=10-10 ", 10, 10);
+    }
+
+    @Test
+    void rejectsRangeStartingPastEnd() throws IOException {
+        for (String range : new String[]{"bytes=100-", "bytes=100-200", "bytes=-0"}) {
+            MockHttpServletResponse response = serve(withRange(range));
+
+            assertThat(response.getStatus()).as(range).isEqualTo(416);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + SIZE);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+    }
+
+    @Test
+    void ignoresUnsupportedOrMalformedRanges() throws IOException {
+        for (String range : new String[]{"bytes=0-1,5-6", "bytes=-", "bytes=9-2", "items=0-9", "bytes=a-b",
+                "bytes=99999999999999999999-"}) {
+            MockHttpServletResponse response = serve(withRange(range));
+
+            assertThat(response.getStatus()).as(range).isEqualTo(200);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).as(range).isNull();
+            assertThat(response.getContentAsByteArray()).as(range).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void appliesRangeOnlyWhenIfRangeMatches() throws IOException {
+        MockHttpServletRequest matching = withRange("bytes=0-9");
+        matching.addHeader(HttpHeaders.IF_RANGE, ETAG);
+        assertThat(serve(matching).getStatus()).isEqualTo(206);
+
+        // If-Range는 strong 비교이므로 약한 태그나 다른 태그면 전체를 보냄
+        for (String ifRange : new String[]{"W/" + ETAG, "\"other\""}) {
+            MockHttpServletRequest request = withRange("bytes=0-9");
+            request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+
+            MockHttpServletResponse response = serve(request);
+
+            assertThat(response.getStatus()).as(ifRange).isEqualTo(200);
+            assertThat(response.getContentAsByteArray()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void headSendsLengthWithoutBody() throws IOException {
+        MockHttpServletRequest request = withRange("bytes=0-9");
+        request.setMethod("HEAD");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void handsLargeResponsesToSendfile() throws IOException {
+        MockHttpServletRequest request = request();
+        request.setAttribute("org.apache.tomcat.sendfile.support", true);
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) SIZE);
+
+        // 기준보다 작은 범위는 직접 씀
+        MockHttpServletRequest small = withRange("bytes=0-9");
+        small.setAttribute("org.apache.tomcat.sendfile.support", true);
+        assertThat(serve(small).getContentAsByteArray()).hasSize(10);
+        assertThat(small.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+    }
+
+    @Test
+    void rejectsInvalidOrMissingHash() {
+        assertThatThrownBy(() -> service.serve("not-a-hash", request(), new MockHttpServletResponse()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ENTITY_NOT_FOUND));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThatThrownBy(() -> service.serve("cd".repeat(32), request(), response))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ENTITY_NOT_FOUND));
+        // 없는 파일의 404가 캐시되지 않도록 캐시 헤더를 붙이지 않음
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    private void assertPartial(String range, int start, int end) throws IOException {
+        MockHttpServletResponse response = serve(withRange(range));
+
+        assertThat(response.getStatus()).as(range).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).as(range)
+                .isEqualTo("bytes " + start + "-" + end + "/" + SIZE);
+        assertThat(response.getContentLengthLong()).as(range).isEqualTo(end - start + 1);
+        assertThat(response.getContentAsByteArray()).as(range)
+                .isEqualTo(Arrays.copyOfRange(content, start, end + 1));
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        service.serve(HASH, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest withRange(String range) {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, range);
+        return request;
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/files/" + HASH);
+    }
+}
@@ -0,0 +1,215 @@
+package com.photoism.photoism_server.domain.image.service;
+
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageBlobRepository;
+import com.photoism.photoism_server.domain.image.domain.repository.ImageRepository;
+import com.photoism.photoism_server.domain.image.presentation.dto.request.UploadCreateRequest;
+import com.photoism.photoism_server.domain.image.presentation.dto.response.ImageResponse;
+import com.photoism.photoism_server.domain.image.presentation.dto.response.UploadSessionResponse;
+import com.photoism.photoism_server.domain.image.storage.BlobStore;
+import com.photoism.photoism_server.domain.image.storage.DirectBufferPool;
+import com.photoism.photoism_server.domain.image.storage.ImageStorageProperties;
+import com.photoism.photoism_server.domain.user.domain.entity.User;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import com.photoism.photoism_server.support.RepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 끊긴 업로드를 서버 offset부터 이어 받는 흐름과, 확정(complete)이 실패했을 때의 세션 처리.
+ * 업로드 서비스가 직접 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ImageUploadServiceTest {
+
+    private static final int SIZE = 10_000;
+    private static final long UNKNOWN_MEMBER_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path root;
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private FlakyBlobStore blobStore;
+    private ImageUploadService service;
+    private Long memberId;
+    private byte[] content;
+    private String sha256;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ImageStorageProperties properties = new ImageStorageProperties();
+        properties.setRoot(root);
+        properties.setBufferSize(DataSize.ofKilobytes(1)); // 청크 하나를 여러 번에 나눠 읽도록
+        properties.setMaxConcurrentWrites(2);
+        blobStore = new FlakyBlobStore(properties);
+        service = new ImageUploadService(imageRepository, imageBlobRepository, blobStore, properties,
+                new DirectBufferPool(properties), new TransactionTemplate(transactionManager), events::add,
+                userRepository);
+        service.createDirectories();
+
+        memberId = userRepository.save(User.builder().email(UUID.randomUUID() + "@test").build()).getId();
+        content = new byte[SIZE];
+        new Random(42).nextBytes(content);
+        sha256 = sha256(content);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageRepository.deleteAllInBatch();
+        imageBlobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void resumesFromServerOffsetAfterDroppedConnection() throws IOException {
+        String uploadId = service.create(memberId, new UploadCreateRequest(SIZE, "image/jpeg", sha256)).uploadId();
+
+        assertError(() -> service.append(memberId, uploadId, 0, droppingAfter(4_000)), ErrorCode.UPLOAD_FAILED);
+        // 끊기기 전까지 받은 바이트는 남아 있음
+        assertThat(service.status(memberId, uploadId).offset()).isEqualTo(4_000);
+        assertError(() -> service.append(memberId, uploadId, 0, new ByteArrayInputStream(content)),
+                ErrorCode.UPLOAD_OFFSET_MISMATCH);
+        assertError(() -> service.status(memberId + 1, uploadId), ErrorCode.UPLOAD_NOT_FOUND);
+
+        UploadSessionResponse resumed = service.append(memberId, uploadId, 4_000,
+                new ByteArrayInputStream(content, 4_000, SIZE - 4_000));
+        assertThat(resumed.offset()).isEqualTo(SIZE);
+
+        ImageResponse image = service.complete(memberId, uploadId);
+
+        assertThat(image.sha256()).isEqualTo(sha256);
+        assertThat(Files.readAllBytes(blobStore.pathOf(sha256))).isEqualTo(content);
+        assertThat(refCount()).isEqualTo(1);
+        assertThat(events).containsExactly(new ImageStoredEvent(image.id(), sha256));
+        assertError(() -> service.status(memberId, uploadId), ErrorCode.UPLOAD_NOT_FOUND);
+    }
+
+    @Test
+    void completeCanBeRetriedWhenBlobStoreFailsBeforeMove() {
+        String uploadId = uploadAll(memberId);
+        blobStore.failNextStore = true;
+
+        assertError(() -> service.complete(memberId, uploadId), ErrorCode.UPLOAD_FAILED);
+        // 파일을 옮기지 못했으므로 세션과 임시 파일이 남아 다시 확정할 수 있음
+        assertThat(service.status(memberId, uploadId).offset()).isEqualTo(SIZE);
+        assertThat(imageBlobRepository.findByHash(sha256)).isEmpty(); // 참조를 늘린 트랜잭션도 롤백됨
+
+        ImageResponse image = service.complete(memberId, uploadId);
+
+        assertThat(image.sha256()).isEqualTo(sha256);
+        assertThat(blobStore.exists(sha256)).isTrue();
+        assertThat(refCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failureAfterMoveDiscardsSessionAndLeavesReusableBlob() {
+        // 없는 회원의 이미지 행은 커밋 시 외래 키 위반으로 실패 (파일은 이미 blob 위치로 옮겨진 뒤)
+        String uploadId = uploadAll(UNKNOWN_MEMBER_ID);
+
+        assertThatThrownBy(() -> service.complete(UNKNOWN_MEMBER_ID, uploadId)).isInstanceOf(RuntimeException.class);
+
+        assertError(() -> service.status(UNKNOWN_MEMBER_ID, uploadId), ErrorCode.UPLOAD_NOT_FOUND);
+        assertThat(blobStore.exists(sha256)).isTrue();
+        assertThat(refCount()).isZero();
+
+        // 해시를 알려 다시 올리면 전송 없이 남은 blob을 재사용
+        UploadSessionResponse reused = service.create(memberId, new UploadCreateRequest(SIZE, "image/jpeg", sha256));
+        assertThat(reused.uploadId()).isNull();
+        assertThat(reused.image().sha256()).isEqualTo(sha256);
+        assertThat(refCount()).isEqualTo(1);
+    }
+
+    private String uploadAll(Long owner) {
+        String uploadId = service.create(owner, new UploadCreateRequest(SIZE, "image/jpeg", null)).uploadId();
+        service.append(owner, uploadId, 0, new ByteArrayInputStream(content));
+        return uploadId;
+    }
+
+    private int refCount() {
+        return imageBlobRepository.findByHash(sha256).orElseThrow().getRefCount();
+    }
+
+    // length 바이트를 보낸 뒤 연결이 끊긴 것처럼 IOException
+    private InputStream droppingAfter(int length) {
+        return new FilterInputStream(new ByteArrayInputStream(content, 0, length)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read < 0) {
+                    throw new IOException("connection reset");
+                }
+                return read;
+            }
+        };
+    }
+
+    private static void assertError(Runnable action, ErrorCode errorCode) {
+        assertThatThrownBy(action::run)
+                .isInstanceOfSatisfying(BusinessException.class, e -> assertThat(e.getErrorCode()).isEqualTo(errorCode));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class FlakyBlobStore extends BlobStore {
+
+        private volatile boolean failNextStore;
+
+        FlakyBlobStore(ImageStorageProperties properties) {
+            super(properties);
+        }
+
+        @Override
+        public boolean storeIfAbsent(Path source, String hash) throws IOException {
+            if (failNextStore) {
+                failNextStore = false;
+                throw new IOException("disk full");
+            }
+            return super.storeIfAbsent(source, hash);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.photoism.photoism_server.domain.sms.sender;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실패한 메시지를 수신 번호로 찾을 수 있도록, 한 번의 전송에 같은 번호가 두 번 들어가지 않게 나누는지 확인합니다.
+ */
+class NurigoSmsSenderTest {
+
+    @Test
+    void sendsEachRecipientAtMostOncePerBatch() {
+        SmsMessage a1 = new SmsMessage(1L, "01000000001", "a1");
+        SmsMessage b1 = new SmsMessage(2L, "01000000002", "b1");
+        SmsMessage a2 = new SmsMessage(3L, "01000000001", "a2");
+        SmsMessage c1 = new SmsMessage(4L, "01000000003", "c1");
+        SmsMessage a3 = new SmsMessage(5L, "01000000001", "a3");
+
+        assertThat(NurigoSmsSender.batchesWithUniqueRecipients(List.of(a1, b1, a2, c1, a3)))
+                .containsExactly(List.of(a1, b1, c1), List.of(a2), List.of(a3));
+    }
+
+    @Test
+    void keepsDistinctRecipientsInOneBatch() {
+        SmsMessage a = new SmsMessage(1L, "01000000001", "a");
+        SmsMessage b = new SmsMessage(2L, "01000000002", "b");
+
+        assertThat(NurigoSmsSender.batchesWithUniqueRecipients(List.of(a, b))).containsExactly(List.of(a, b));
+        assertThat(NurigoSmsSender.batchesWithUniqueRecipients(List.of())).isEmpty();
+    }
+}
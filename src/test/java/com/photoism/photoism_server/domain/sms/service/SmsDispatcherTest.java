@@ -0,0 +1,110 @@
+package com.photoism.photoism_server.domain.sms.service;
+
+import com.photoism.photoism_server.domain.sms.domain.entity.SmsOutbox;
+import com.photoism.photoism_server.domain.sms.domain.enums.SmsStatus;
+import com.photoism.photoism_server.domain.sms.domain.repository.SmsOutboxRepository;
+import com.photoism.photoism_server.domain.sms.sender.SmsMessage;
+import com.photoism.photoism_server.domain.sms.sender.SmsProperties;
+import com.photoism.photoism_server.domain.sms.sender.SmsSendResult;
+import com.photoism.photoism_server.support.RepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발송 대기열의 가져가기(claim)와 임대 시간이 지난 메시지 회수.
+ * 디스패처가 직접 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SmsDispatcherTest {
+
+    @Autowired
+    private SmsOutboxRepository smsOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<SmsMessage> sent = new CopyOnWriteArrayList<>();
+    private final Set<Long> failing = new HashSet<>();
+    private SmsDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        SmsProperties properties = new SmsProperties();
+        properties.setClaimTimeout(Duration.ofMinutes(5));
+        dispatcher = new SmsDispatcher(smsOutboxRepository, messages -> {
+            sent.addAll(messages);
+            return failing.isEmpty() ? SmsSendResult.success() : new SmsSendResult(Set.copyOf(failing), "fail");
+        }, properties, new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        smsOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void startupRecoversOnlyExpiredClaims() {
+        LocalDateTime now = LocalDateTime.now();
+        SmsOutbox liveClaim = smsOutboxRepository.save(outbox("live", SmsStatus.SENDING, now.minusSeconds(10)));
+        SmsOutbox expiredClaim = smsOutboxRepository.save(outbox("expired", SmsStatus.SENDING, now.minusHours(1)));
+        SmsOutbox pending = smsOutboxRepository.save(outbox("pending", SmsStatus.PENDING, null));
+
+        dispatcher.drainOnStartup();
+
+        // 다른 노드가 지금 보내고 있는 메시지는 건드리지 않음
+        assertThat(statusOf(liveClaim)).isEqualTo(SmsStatus.SENDING);
+        assertThat(statusOf(expiredClaim)).isEqualTo(SmsStatus.SENT);
+        assertThat(statusOf(pending)).isEqualTo(SmsStatus.SENT);
+        assertThat(sent).extracting(SmsMessage::text).containsExactlyInAnyOrder("expired", "pending");
+    }
+
+    @Test
+    void claimRecordsLeaseAndFailedMessageReturnsToPendingWithBackoff() {
+        SmsOutbox pending = smsOutboxRepository.save(outbox("pending", SmsStatus.PENDING, null));
+        failing.add(pending.getId());
+
+        dispatcher.dispatch();
+
+        SmsOutbox after = smsOutboxRepository.findById(pending.getId()).orElseThrow();
+        assertThat(after.getStatus()).isEqualTo(SmsStatus.PENDING);
+        assertThat(after.getAttempts()).isEqualTo(1);
+        assertThat(after.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(after.getClaimedAt()).isNotNull();
+
+        // 재시도 시각 전에는 다시 가져가지 않음
+        sent.clear();
+        dispatcher.dispatch();
+        assertThat(sent).isEmpty();
+    }
+
+    private SmsStatus statusOf(SmsOutbox outbox) {
+        return smsOutboxRepository.findById(outbox.getId()).orElseThrow().getStatus();
+    }
+
+    private static SmsOutbox outbox(String text, SmsStatus status, LocalDateTime claimedAt) {
+        return SmsOutbox.builder()
+                .dedupeKey("test:" + text)
+                .recipient("01000000000")
+                .text(text)
+                .status(status)
+                .nextAttemptAt(LocalDateTime.now().minusMinutes(1))
+                .claimedAt(claimedAt)
+                .build();
+    }
+}
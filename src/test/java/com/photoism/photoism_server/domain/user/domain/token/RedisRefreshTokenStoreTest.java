@@ -0,0 +1,110 @@
+package com.photoism.photoism_server.domain.user.domain.token;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Redis 서버로 RedisRefreshTokenStore를 확인합니다.
+ */
+class RedisRefreshTokenStoreTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisRefreshTokenStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        store = new RedisRefreshTokenStore(redisTemplate);
+    }
+
+    @Test
+    void saveSetsTtlOnTokenAndFamily() {
+        store.save(RefreshToken.recorded("hash-1", 7L, "family-1", Instant.now().plusSeconds(600)));
+
+        assertThat(store.find("hash-1")).hasValueSatisfying(token -> {
+            assertThat(token.memberId()).isEqualTo(7L);
+            assertThat(token.familyId()).isEqualTo("family-1");
+            assertThat(token.used()).isFalse();
+            assertThat(token.inDatabase()).isTrue();
+        });
+        assertThat(redisTemplate.getExpire("refresh-token:hash-1")).isBetween(1L, 600L);
+        assertThat(redisTemplate.getExpire("refresh-token-family:family-1")).isBetween(1L, 600L);
+    }
+
+    @Test
+    void rotateSucceedsOnlyOnceAndStoresTheNextToken() {
+        store.save(RefreshToken.recorded("hash-1", 7L, "family-1", Instant.now().plusSeconds(600)));
+
+        assertThat(store.rotate("hash-1", RefreshToken.issued("hash-2", 7L, "family-1", Instant.now().plusSeconds(600))))
+                .isTrue();
+        assertThat(store.find("hash-1")).hasValueSatisfying(token -> assertThat(token.used()).isTrue());
+        assertThat(store.find("hash-2")).hasValueSatisfying(token -> {
+            assertThat(token.used()).isFalse();
+            assertThat(token.inDatabase()).isFalse();
+        });
+        assertThat(redisTemplate.getExpire("refresh-token:hash-2")).isBetween(1L, 600L);
+
+        // 이미 사용했거나 없는 토큰으로는 다음 토큰을 저장하지 않음
+        assertThat(store.rotate("hash-1", RefreshToken.issued("hash-3", 7L, "family-1", Instant.now().plusSeconds(600))))
+                .isFalse();
+        assertThat(store.rotate("unknown", RefreshToken.issued("hash-4", 7L, "family-1", Instant.now().plusSeconds(600))))
+                .isFalse();
+        assertThat(store.find("hash-3")).isEmpty();
+        assertThat(store.find("hash-4")).isEmpty();
+
+        store.revokeFamily("family-1");
+        assertThat(store.find("hash-2")).isEmpty();
+    }
+
+    @Test
+    void revokeFamilyRemovesEveryToken() {
+        store.save(RefreshToken.issued("hash-1", 7L, "family-1", Instant.now().plusSeconds(600)));
+        store.save(RefreshToken.issued("hash-2", 7L, "family-1", Instant.now().plusSeconds(600)));
+        store.save(RefreshToken.issued("hash-3", 7L, "family-2", Instant.now().plusSeconds(600)));
+
+        store.revokeFamily("family-1");
+
+        assertThat(store.find("hash-1")).isEmpty();
+        assertThat(store.find("hash-2")).isEmpty();
+        assertThat(store.find("hash-3")).isPresent();
+    }
+}
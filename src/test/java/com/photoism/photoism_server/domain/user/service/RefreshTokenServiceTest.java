@@ -0,0 +1,159 @@
+package com.photoism.photoism_server.domain.user.service;
+
+import com.photoism.photoism_server.common.dto.TokenResponse;
+import com.photoism.photoism_server.common.exception.BusinessException;
+import com.photoism.photoism_server.common.exception.ErrorCode;
+import com.photoism.photoism_server.common.jwt.Jwt;
+import com.photoism.photoism_server.common.util.TokenHashUtil;
+import com.photoism.photoism_server.domain.user.domain.entity.User;
+import com.photoism.photoism_server.domain.user.domain.repository.UserRepository;
+import com.photoism.photoism_server.domain.user.domain.token.InMemoryRefreshTokenStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.nullable;
+
+/**
+ * 리프레시 토큰 회전과 재사용 감지. 노드마다 저장소(메모리)를 따로 두고 DB(user 행)만 공유하는 상황을 흉내 냅니다.
+ * 회전은 저장소에서만 처리하고, DB는 로그인 토큰을 처음 교환하거나 복구할 때와 폐기할 때만 씁니다.
+ */
+class RefreshTokenServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final Jwt jwt = new Jwt("test-secret", "photoism-test", 60, 3600);
+    private final AtomicReference<String> dbHash = new AtomicReference<>();
+    private final AtomicReference<LocalDateTime> dbExpiresAt = new AtomicReference<>();
+    private final List<InMemoryRefreshTokenStore> stores = new ArrayList<>();
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.updateRefreshToken(anyLong(), nullable(String.class), nullable(LocalDateTime.class)))
+                .thenAnswer(inv -> {
+                    dbHash.set(inv.getArgument(1));
+                    dbExpiresAt.set(inv.getArgument(2));
+                    return 1;
+                });
+        Mockito.when(userRepository.replaceRefreshToken(anyLong(), anyString(), nullable(String.class),
+                        nullable(LocalDateTime.class)))
+                .thenAnswer(inv -> {
+                    synchronized (dbHash) {
+                        if (!Objects.equals(dbHash.get(), inv.getArgument(1))) {
+                            return 0;
+                        }
+                        dbHash.set(inv.getArgument(2));
+                        dbExpiresAt.set(inv.getArgument(3));
+                        return 1;
+                    }
+                });
+        Mockito.when(userRepository.findByRefreshTokenHash(anyString()))
+                .thenAnswer(inv -> inv.getArgument(0).equals(dbHash.get())
+                        ? Optional.of(User.builder()
+                        .id(MEMBER_ID)
+                        .refreshTokenHash(dbHash.get())
+                        .refreshTokenExpiresAt(dbExpiresAt.get())
+                        .build())
+                        : Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stores.forEach(InMemoryRefreshTokenStore::shutdown);
+    }
+
+    private RefreshTokenService node() {
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+        stores.add(store);
+        return new RefreshTokenService(store, userRepository, jwt);
+    }
+
+    @Test
+    void rotationUsesOnlyTheStoreAfterTheLoginTokenIsExchanged() {
+        RefreshTokenService service = node();
+        TokenResponse login = service.issue(MEMBER_ID);
+        assertThat(dbHash.get()).isEqualTo(TokenHashUtil.sha256Hex(login.refreshToken()));
+
+        TokenResponse first = service.rotate(login.refreshToken());
+        // 로그인 토큰을 교환하면 DB의 기록을 지워 다시 복구되지 않도록 함
+        assertThat(dbHash.get()).isNull();
+
+        Mockito.clearInvocations(userRepository);
+        TokenResponse second = service.rotate(first.refreshToken());
+        service.rotate(second.refreshToken());
+        Mockito.verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void rotatedTokenCannotBeReusedAndRevokesTheFamily() {
+        RefreshTokenService service = node();
+        TokenResponse login = service.issue(MEMBER_ID);
+        TokenResponse first = service.rotate(login.refreshToken());
+        TokenResponse second = service.rotate(first.refreshToken());
+
+        assertThatThrownBy(() -> service.rotate(first.refreshToken()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_REUSED);
+        // 재사용이 감지되면 정상적으로 받은 최신 토큰도 폐기
+        assertThatThrownBy(() -> service.rotate(second.refreshToken()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        Mockito.verify(userRepository).updateRefreshToken(MEMBER_ID, null, null);
+    }
+
+    @Test
+    void afterRestartOnlyAnUnexchangedLoginTokenIsRestored() {
+        RefreshTokenService before = node();
+        TokenResponse exchanged = before.issue(MEMBER_ID);
+        TokenResponse rotated = before.rotate(exchanged.refreshToken());
+
+        RefreshTokenService restarted = node(); // 빈 저장소
+        assertThatThrownBy(() -> restarted.rotate(exchanged.refreshToken()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        // 저장소에만 있던 토큰은 복구할 수 없으므로 다시 로그인
+        assertThatThrownBy(() -> restarted.rotate(rotated.refreshToken()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+
+        TokenResponse login = before.issue(MEMBER_ID);
+        RefreshTokenService restartedAgain = node();
+        TokenResponse next = restartedAgain.rotate(login.refreshToken());
+        assertThat(dbHash.get()).isNull();
+        assertThat(restartedAgain.rotate(next.refreshToken()).refreshToken()).isNotBlank();
+    }
+
+    @Test
+    void loginTokenExchangedOnAnotherNodeIsDetectedAsReuse() {
+        RefreshTokenService nodeA = node();
+        RefreshTokenService nodeB = node();
+        RefreshTokenService nodeC = node();
+        TokenResponse login = nodeA.issue(MEMBER_ID);
+
+        // B는 저장소에 기록이 없어 DB의 토큰으로 복구한 뒤 교환 (DB의 기록은 지워짐)
+        nodeB.rotate(login.refreshToken());
+        // C에서는 더 이상 복구할 수 없음
+        assertThatThrownBy(() -> nodeC.rotate(login.refreshToken()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+
+        // A의 저장소에는 아직 사용 전으로 남아 있지만 DB의 기록이 이미 지워졌으므로 재사용으로 거부
+        assertThatThrownBy(() -> nodeA.rotate(login.refreshToken()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_REUSED);
+    }
+}
@@ -0,0 +1,20 @@
+package com.photoism.photoism_server.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 운영과 같은 MariaDB에 Flyway 마이그레이션을 적용해 테스트합니다. (네이티브 upsert, SKIP LOCKED 등 H2로는 확인할 수 없는 쿼리)
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestDatabaseConfig {
+
+    @Bean
+    @ServiceConnection
+    MariaDBContainer<?> mariaDbContainer() {
+        return new MariaDBContainer<>(DockerImageName.parse("mariadb:10.11"));
+    }
+}
@@ -0,0 +1,12 @@
+-- Flyway 도입 전 ddl-auto: update 가 기준 엔티티로 만든 스키마와 데이터 (LegacySchemaUpgradeTest)
+create table user (id bigint not null auto_increment, email varchar(255), password varchar(255), refresh_token varchar(255), username varchar(255), primary key (id)) engine=InnoDB;
+create table image (id bigint not null auto_increment, url varchar(255), primary key (id)) engine=InnoDB;
+create table photo_book (id bigint not null auto_increment, photo_url varchar(255), user_id bigint, primary key (id)) engine=InnoDB;
+create table correction (id bigint not null auto_increment, ala bigint, eye_angle bigint, eye_size bigint, lower bigint, nasal_bridge bigint, shape tinyint check (shape between 0 and 4), skin tinyint check (skin between 0 and 4), upper bigint, user_id bigint, primary key (id)) engine=InnoDB;
+alter table correction add constraint FKcorrection_user foreign key (user_id) references user (id);
+alter table photo_book add constraint FKphoto_book_user foreign key (user_id) references user (id);
+
+insert into user (id, email, password, refresh_token, username) values (7, 'legacy@test', 'hash', 'raw.refresh.token', 'legacy');
+insert into image (id, url) values (120, '/files/legacy.jpg');
+insert into photo_book (id, photo_url, user_id) values (80, '/files/legacy.jpg', 7);
+insert into correction (id, shape, skin, user_id) values (30, 1, 2, 7);